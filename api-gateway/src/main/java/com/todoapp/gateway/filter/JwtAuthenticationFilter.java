@@ -1,6 +1,8 @@
 package com.todoapp.gateway.filter;
 
 import com.todoapp.gateway.util.JwtUtil;
+import com.todoapp.gateway.util.RevocationEpochs;
+import com.todoapp.gateway.util.TokenVerification;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
@@ -20,6 +22,9 @@ public class JwtAuthenticationFilter implements GatewayFilter {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private RevocationEpochs revocationEpochs;
+
     private static final List<String> PUBLIC_ENDPOINTS = Arrays.asList(
             "/api/auth/login",
             "/api/auth/register",
@@ -50,19 +55,25 @@ public class JwtAuthenticationFilter implements GatewayFilter {
         String token = authHeader.substring(7); // Remove "Bearer " prefix
 
         try {
-            // Validate token
-            if (!jwtUtil.isValidToken(token)) {
-                return handleUnauthorized(exchange, "Invalid or expired token");
+            // Verified once per token; repeat requests are served from the verifier's cache
+            TokenVerification verification = jwtUtil.verify(token);
+            if (!verification.valid()) {
+                return handleUnauthorized(exchange, verification.error());
             }
 
             // Validate that it's an access token
-            if (!jwtUtil.validateAccessToken(token)) {
+            if (!verification.isAccessToken()) {
                 return handleUnauthorized(exchange, "Invalid access token type");
             }
 
+            // Logout-all and password change revoke every token issued up to that moment
+            if (revocationEpochs.isRevoked(verification.userId(), verification.issuedAt())) {
+                return handleUnauthorized(exchange, "Token has been revoked");
+            }
+
             // Extract user information
-            String username = jwtUtil.extractUsername(token);
-            String userId = jwtUtil.extractUserId(token);
+            String username = verification.username();
+            String userId = verification.userId();
 
             // Add user information to request headers for downstream services
             ServerHttpRequest modifiedRequest = request.mutate()
@@ -1,34 +1,109 @@
 package com.todoapp.gateway.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
-
     @Value("${jwt.access-token-expiration}")
     private Long accessTokenExpiration;
 
     @Value("${jwt.refresh-token-expiration}")
     private Long refreshTokenExpiration;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
+    // Built once; the key and parser are immutable and thread-safe
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    // SHA-256 of the token -> verified claims, each entry expiring with its token
+    private final Cache<ByteBuffer, TokenVerification> verifiedTokens;
+    // Short-lived and kept apart so a flood of garbage tokens cannot evict valid entries
+    private final Cache<ByteBuffer, TokenVerification> rejectedTokens;
 
+    public JwtUtil(@Value("${jwt.secret}") String secretKey,
+                   @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize,
+                   @Value("${jwt.cache.negative-ttl:PT30S}") Duration negativeTtl) {
+        // Same key derivation as auth-service, which signs the tokens
+        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         if (keyBytes.length < 32) {
             throw new IllegalArgumentException("JWT secret key must be at least 256 bits (32 bytes)");
         }
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(Expiry.creating((ByteBuffer digest, TokenVerification verification) ->
+                        Duration.between(Instant.now(), verification.expiresAt())))
+                .build();
+        this.rejectedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(negativeTtl)
+                .build();
+    }
+
+    /**
+     * Verifies the token at most once: repeat calls with the same token, valid or not,
+     * are answered from memory without HMAC or JSON work until the token expires.
+     */
+    public TokenVerification verify(String token) {
+        ByteBuffer digest = digest(token);
+        TokenVerification verification = verifiedTokens.getIfPresent(digest);
+        if (verification != null) {
+            // The cache evicts lazily, so an entry may outlive its token briefly
+            return verification.expiresAt().isAfter(Instant.now())
+                    ? verification
+                    : TokenVerification.invalid("Invalid or expired token");
+        }
+        verification = rejectedTokens.getIfPresent(digest);
+        if (verification != null) {
+            return verification;
+        }
+
+        try {
+            Claims claims = extractAllClaims(token);
+            if (claims.getExpiration() == null) {
+                verification = TokenVerification.invalid("Token has no expiration");
+            } else {
+                verification = TokenVerification.valid(claims.get("userId", String.class), claims.getSubject(),
+                        claims.get("type", String.class),
+                        issuedAt(claims), claims.getExpiration().toInstant());
+                verifiedTokens.put(digest, verification);
+                return verification;
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            verification = TokenVerification.invalid("Invalid or expired token");
+        }
+        rejectedTokens.put(digest, verification);
+        return verification;
+    }
+
+    /**
+     * Issue time from the millisecond iat_ms claim, falling back to iat for tokens minted without it
+     */
+    private static Instant issuedAt(Claims claims) {
+        Long issuedAtMs = claims.get(RevocationEpochs.ISSUED_AT_MS_CLAIM, Long.class);
+        if (issuedAtMs != null) {
+            return Instant.ofEpochMilli(issuedAtMs);
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
     }
 
     public String extractUsername(String token) {
@@ -54,11 +129,7 @@ public class JwtUtil {
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (JwtException e) {
             throw new JwtException("Invalid JWT token", e);
         }
@@ -73,38 +144,29 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, String username) {
-        try {
-            final String tokenUsername = extractUsername(token);
-            return (tokenUsername.equals(username) && !isTokenExpired(token));
-        } catch (Exception e) {
-            return false;
-        }
+        TokenVerification verification = verify(token);
+        return verification.valid() && verification.username().equals(username);
     }
 
     public Boolean validateAccessToken(String token) {
-        try {
-            String tokenType = extractTokenType(token);
-            return "ACCESS".equals(tokenType) && !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
-        }
+        TokenVerification verification = verify(token);
+        return verification.valid() && verification.isAccessToken();
     }
 
     public Boolean validateRefreshToken(String token) {
-        try {
-            String tokenType = extractTokenType(token);
-            return "REFRESH".equals(tokenType) && !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
-        }
+        TokenVerification verification = verify(token);
+        return verification.valid() && "refresh".equalsIgnoreCase(verification.type());
     }
 
     public Boolean isValidToken(String token) {
+        return verify(token).valid();
+    }
+
+    private static ByteBuffer digest(String token) {
         try {
-            extractAllClaims(token);
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 }
@@ -0,0 +1,104 @@
+package com.todoapp.gateway.util;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Local mirror of the per-user revocation epochs that auth-service writes on
+ * logout-all and password change: tokens issued at or before a user's epoch (epoch
+ * millis, against the token's iat_ms claim, or iat for tokens without it) are
+ * rejected. Kept current from the revoke-epoch channel and resynchronised from Redis
+ * periodically, so the check on the request path is a map lookup.
+ */
+@Component
+public class RevocationEpochs {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevocationEpochs.class);
+
+    public static final String KEY_PREFIX = "revoke-epoch:";
+    public static final String CHANNEL = "revoke-epoch";
+    public static final String ISSUED_AT_MS_CLAIM = "iat_ms";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Duration retention;
+    private final Duration resyncInterval;
+    private final ConcurrentMap<String, Long> epochs = new ConcurrentHashMap<>();
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    public RevocationEpochs(ReactiveStringRedisTemplate redisTemplate,
+                            @Value("${security.revocation.retention:PT1H}") Duration retention,
+                            @Value("${security.revocation.resync-interval:PT1M}") Duration resyncInterval) {
+        this.redisTemplate = redisTemplate;
+        this.retention = retention;
+        this.resyncInterval = resyncInterval;
+    }
+
+    public boolean isRevoked(String userId, Instant issuedAt) {
+        if (userId == null || issuedAt == null) {
+            return false;
+        }
+        Long epoch = epochs.get(userId);
+        return epoch != null && issuedAt.toEpochMilli() <= epoch;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscriptions.add(redisTemplate.listenToChannel(CHANNEL)
+                .doOnNext(message -> apply(message.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe());
+
+        subscriptions.add(Flux.interval(Duration.ZERO, resyncInterval)
+                .concatMap(tick -> resync())
+                .subscribe());
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    private Mono<Void> resync() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        return redisTemplate.scan(options)
+                .flatMap(key -> redisTemplate.opsForValue().get(key)
+                        .doOnNext(value -> epochs.merge(key.substring(KEY_PREFIX.length()), Long.parseLong(value), Math::max)))
+                .then(Mono.fromRunnable(this::prune))
+                .onErrorResume(e -> {
+                    logger.warn("Revocation epoch resync failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void prune() {
+        long oldest = System.currentTimeMillis() - retention.toMillis();
+        epochs.values().removeIf(epoch -> epoch < oldest);
+    }
+
+    private void apply(String body) {
+        int separator = body.lastIndexOf(':');
+        try {
+            epochs.merge(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)), Math::max);
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring malformed revocation epoch message");
+        }
+    }
+}
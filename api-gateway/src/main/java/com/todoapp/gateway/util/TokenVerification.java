@@ -0,0 +1,22 @@
+package com.todoapp.gateway.util;
+
+import java.time.Instant;
+
+/**
+ * Outcome of verifying a token: its claims when valid, the reason when not.
+ */
+public record TokenVerification(boolean valid, String userId, String username, String type,
+                                Instant issuedAt, Instant expiresAt, String error) {
+
+    static TokenVerification valid(String userId, String username, String type, Instant issuedAt, Instant expiresAt) {
+        return new TokenVerification(true, userId, username, type, issuedAt, expiresAt, null);
+    }
+
+    static TokenVerification invalid(String error) {
+        return new TokenVerification(false, null, null, null, null, null, error);
+    }
+
+    public boolean isAccessToken() {
+        return "access".equalsIgnoreCase(type);
+    }
+}
@@ -0,0 +1,112 @@
+package com.todoapp.auth.activity;
+
+import com.todoapp.auth.repository.RefreshTokenRepository;
+import com.todoapp.auth.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Write-behind buffer for refresh-token last_used and user last_login. Each use only
+ * records the latest timestamp per id in memory; a periodic flush writes them as
+ * multi-row UPDATEs, one per second of activity, so a burst of refreshes costs a
+ * handful of statements instead of one row write each. Timestamps are truncated to
+ * the second and are at most one flush interval behind in the database. Entries
+ * whose write fails are put back for the next flush, and the buffer is drained on
+ * shutdown.
+ */
+@Component
+public class ActivityWriteBehind {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityWriteBehind.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final ConcurrentMap<Long, LocalDateTime> tokenUses = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, LocalDateTime> userLogins = new ConcurrentHashMap<>();
+
+    public ActivityWriteBehind(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${security.write-behind.batch-size:500}") int batchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public void recordTokenUse(Long tokenId, LocalDateTime usedAt) {
+        tokenUses.merge(tokenId, usedAt, ActivityWriteBehind::latest);
+    }
+
+    public void recordLogin(Long userId, LocalDateTime loginAt) {
+        userLogins.merge(userId, loginAt, ActivityWriteBehind::latest);
+    }
+
+    @Scheduled(fixedDelayString = "${security.write-behind.flush-interval:PT5S}",
+            initialDelayString = "${security.write-behind.flush-interval:PT5S}")
+    public void flush() {
+        int tokens = drain(tokenUses, refreshTokenRepository::updateLastUsedByIds);
+        int logins = drain(userLogins, userRepository::updateLastLoginByIds);
+        if (tokens > 0 || logins > 0) {
+            logger.debug("Flushed last-used for {} refresh tokens and last-login for {} users", tokens, logins);
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+        if (!tokenUses.isEmpty() || !userLogins.isEmpty()) {
+            logger.warn("Dropped {} refresh-token and {} login timestamps that could not be written on shutdown",
+                    tokenUses.size(), userLogins.size());
+        }
+    }
+
+    private int drain(ConcurrentMap<Long, LocalDateTime> buffer, BiConsumer<List<Long>, LocalDateTime> writer) {
+        // Take only entries not updated since they were read; newer ones stay for the next flush
+        Map<LocalDateTime, List<Long>> idsBySecond = new TreeMap<>();
+        int drained = 0;
+        for (Map.Entry<Long, LocalDateTime> entry : buffer.entrySet()) {
+            if (buffer.remove(entry.getKey(), entry.getValue())) {
+                idsBySecond.computeIfAbsent(entry.getValue().truncatedTo(ChronoUnit.SECONDS), key -> new ArrayList<>())
+                        .add(entry.getKey());
+                drained++;
+            }
+        }
+
+        idsBySecond.forEach((timestamp, ids) -> {
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                try {
+                    transactionTemplate.executeWithoutResult(status -> writer.accept(chunk, timestamp));
+                } catch (RuntimeException e) {
+                    logger.warn("Activity write-behind flush failed, retrying {} entries later: {}",
+                            chunk.size(), e.getMessage());
+                    chunk.forEach(id -> buffer.merge(id, timestamp, ActivityWriteBehind::latest));
+                }
+            }
+        });
+        return drained;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,257 @@
+package com.todoapp.auth.availability;
+
+import com.todoapp.auth.blacklist.BloomFilter;
+import com.todoapp.auth.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory front for username/email availability checks. A Bloom filter over every
+ * taken username and email answers "available" without touching MySQL; a bounded map
+ * of recently confirmed names answers repeated "taken" checks; only the remaining
+ * filter hits go to the database.
+ *
+ * Values are normalised (NFKD, accents stripped, case folded, trimmed) so that
+ * compatibility forms such as full-width letters and ligatures, accents, and case
+ * differences including ß/ss share a filter entry, as they do under the column
+ * collation; a coarser key only adds database lookups. Equivalences the collation has
+ * beyond these can still answer "available" for a taken name, which the unique
+ * constraint then rejects at registration.
+ *
+ * The filter is built by streaming the users table at startup, updated by createUser
+ * on this instance and, once its transaction commits, over the pub/sub channel on the
+ * others. Every instance also reads users created since the highest id it has seen
+ * at a short interval, covering missed messages, and the filter is rebuilt
+ * periodically to forget deleted users. Until the first build succeeds every check
+ * goes to MySQL.
+ */
+@Component
+public class AvailabilityIndex implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityIndex.class);
+
+    public static final String CHANNEL = "user-availability";
+
+    private static final String USERNAME_PREFIX = "u:";
+    private static final String EMAIL_PREFIX = "e:";
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    // Ids are allocated before commit, so a lower id can become visible after a higher one
+    private static final long CATCH_UP_OVERLAP = 1000;
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final int positiveCacheSize;
+    private final long positiveTtlMs;
+
+    // normalised key -> expiry in epoch millis
+    private final ConcurrentMap<String, Long> recentlyTaken = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    // Filter being rebuilt; receives concurrent additions so none are lost in the swap
+    private volatile BloomFilter next;
+    private volatile boolean built;
+    private volatile long lastSeenId;
+
+    public AvailabilityIndex(UserRepository userRepository,
+                             StringRedisTemplate redisTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${availability.expected-entries:1000000}") long expectedEntries,
+                             @Value("${availability.false-positive-rate:0.01}") double falsePositiveRate,
+                             @Value("${availability.positive-cache-size:10000}") int positiveCacheSize,
+                             @Value("${availability.positive-ttl:PT5M}") Duration positiveTtl) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.positiveCacheSize = positiveCacheSize;
+        this.positiveTtlMs = positiveTtl.toMillis();
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${availability.rebuild-interval:PT6H}",
+            initialDelayString = "${availability.rebuild-interval:PT6H}")
+    public void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(expectedEntries, falsePositiveRate);
+        next = rebuilt;
+        try {
+            // rows, highest id
+            long[] result = readOnlyTransaction.execute(status -> {
+                long[] rows = {0, 0};
+                try (Stream<Object[]> users = userRepository.streamUsernamesAndEmails()) {
+                    users.forEach(row -> {
+                        rebuilt.put(USERNAME_PREFIX + normalize((String) row[1]));
+                        rebuilt.put(EMAIL_PREFIX + normalize((String) row[2]));
+                        rows[0]++;
+                        rows[1] = Math.max(rows[1], (Long) row[0]);
+                    });
+                }
+                return rows;
+            });
+
+            filter = rebuilt;
+            synchronized (this) {
+                lastSeenId = Math.max(lastSeenId, result[1]);
+            }
+            built = true;
+            logger.info("Username/email availability filter built from {} users", result[0]);
+        } catch (RuntimeException e) {
+            logger.warn("Availability filter build failed, keeping the current filter: {}", e.getMessage());
+        } finally {
+            next = null;
+        }
+    }
+
+    /**
+     * Adds users created since the highest id seen, on any instance.
+     */
+    @Scheduled(fixedDelayString = "${availability.catch-up-interval:PT30S}",
+            initialDelayString = "${availability.catch-up-interval:PT30S}")
+    public synchronized void catchUp() {
+        if (!built) {
+            return;
+        }
+
+        try {
+            List<Object[]> users = readOnlyTransaction.execute(status ->
+                    userRepository.findUsernamesAndEmailsAfter(lastSeenId - CATCH_UP_OVERLAP));
+            for (Object[] row : users) {
+                addLocally(USERNAME_PREFIX + normalize((String) row[1]));
+                addLocally(EMAIL_PREFIX + normalize((String) row[2]));
+                lastSeenId = Math.max(lastSeenId, (Long) row[0]);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Availability filter catch-up failed: {}", e.getMessage());
+        }
+    }
+
+    public boolean isUsernameTaken(String username, Predicate<String> database) {
+        return isTaken(USERNAME_PREFIX + normalize(username), username, database);
+    }
+
+    public boolean isEmailTaken(String email, Predicate<String> database) {
+        return isTaken(EMAIL_PREFIX + normalize(email), email, database);
+    }
+
+    /**
+     * Records a new user on this instance and tells the others once the surrounding
+     * transaction commits. Adding locally right away is safe: an entry for a user that
+     * is rolled back only sends its checks to the database.
+     */
+    public void add(String username, String email) {
+        String usernameKey = USERNAME_PREFIX + normalize(username);
+        String emailKey = EMAIL_PREFIX + normalize(email);
+        addLocally(usernameKey);
+        addLocally(emailKey);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(usernameKey, emailKey);
+                }
+            });
+        } else {
+            publish(usernameKey, emailKey);
+        }
+    }
+
+    /**
+     * Drops cached "taken" answers for a deleted user; the filter forgets it on the next rebuild.
+     */
+    public void forget(String username, String email) {
+        recentlyTaken.remove(USERNAME_PREFIX + normalize(username));
+        recentlyTaken.remove(EMAIL_PREFIX + normalize(email));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocally(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void publish(String usernameKey, String emailKey) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, usernameKey);
+            redisTemplate.convertAndSend(CHANNEL, emailKey);
+        } catch (RuntimeException e) {
+            // Other instances pick the user up on their next catch-up
+            logger.warn("Failed to publish new username/email: {}", e.getMessage());
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        // Upper- then lower-casing folds ß to ss and other one-to-many case mappings
+        return stripped.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT).trim();
+    }
+
+    private boolean isTaken(String key, String value, Predicate<String> database) {
+        if (built && !filter.mightContain(key)) {
+            return false;
+        }
+
+        Long expiresAt = recentlyTaken.get(key);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            return true;
+        }
+
+        boolean taken = database.test(value);
+        if (taken) {
+            remember(key);
+        }
+        return taken;
+    }
+
+    private void addLocally(String key) {
+        filter.put(key);
+        BloomFilter rebuilding = next;
+        if (rebuilding != null) {
+            rebuilding.put(key);
+        }
+    }
+
+    private void remember(String key) {
+        long now = System.currentTimeMillis();
+        if (recentlyTaken.size() >= positiveCacheSize) {
+            recentlyTaken.values().removeIf(expiresAt -> expiresAt <= now);
+        }
+        if (recentlyTaken.size() < positiveCacheSize) {
+            recentlyTaken.put(key, now + positiveTtlMs);
+        }
+    }
+}
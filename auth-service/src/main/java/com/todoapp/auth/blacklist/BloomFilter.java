@@ -0,0 +1,49 @@
+package com.todoapp.auth.blacklist;
+
+import com.todoapp.auth.util.DoubleHashing;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings. Sized from the expected number of entries
+ * and the target false-positive rate; bit positions come from {@link DoubleHashing}.
+ * Lookups and inserts are lock-free.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedEntries, double falsePositiveRate) {
+        long n = Math.max(1, expectedEntries);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, ((m + 63) / 64) * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitCount / 64));
+    }
+
+    public void put(String value) {
+        long[] hash = DoubleHashing.hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            long index = DoubleHashing.probe(hash, i, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long[] hash = DoubleHashing.hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            long index = DoubleHashing.probe(hash, i, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,115 @@
+package com.todoapp.auth.blacklist;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-user revocation epochs: every token of a user issued at or before the epoch
+ * (epoch millis) is invalid. Tokens carry their issue time in milliseconds in the
+ * iat_ms claim, so a token minted right after a revocation, within the same second,
+ * stays valid; tokens without the claim fall back to iat, read as the start of its
+ * second, which errs on the side of rejecting. Stored in Redis under
+ * revoke-epoch:{userId} for as long as a revoked token could still be unexpired,
+ * broadcast on the revoke-epoch channel and mirrored in a local map, so checking a
+ * token is an in-memory comparison. The gateway and task-service keep the same
+ * mirror. The map is resynchronised from Redis periodically in case a message is missed.
+ */
+@Component
+public class RevocationEpochs implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevocationEpochs.class);
+
+    public static final String KEY_PREFIX = "revoke-epoch:";
+    public static final String CHANNEL = "revoke-epoch";
+    public static final String ISSUED_AT_MS_CLAIM = "iat_ms";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration retention;
+    private final ConcurrentMap<String, Long> epochs = new ConcurrentHashMap<>();
+
+    public RevocationEpochs(StringRedisTemplate redisTemplate,
+                            @Value("${security.revocation.retention:PT1H}") Duration retention) {
+        this.redisTemplate = redisTemplate;
+        this.retention = retention;
+    }
+
+    /**
+     * Invalidates every token issued to the user up to now, on all instances.
+     */
+    public void revokeAll(String userId) {
+        long epoch = System.currentTimeMillis();
+        redisTemplate.opsForValue().set(KEY_PREFIX + userId, Long.toString(epoch), retention);
+        epochs.merge(userId, epoch, Math::max);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, userId + ":" + epoch);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to publish revocation epoch for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    public boolean isRevoked(String userId, Long issuedAtMillis) {
+        if (userId == null || issuedAtMillis == null) {
+            return false;
+        }
+        Long epoch = epochs.get(userId);
+        return epoch != null && issuedAtMillis <= epoch;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        resync();
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.resync-interval:PT1M}",
+            initialDelayString = "${security.revocation.resync-interval:PT1M}")
+    public void resync() {
+        try {
+            List<String> keys = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                cursor.forEachRemaining(keys::add);
+            }
+
+            List<String> values = keys.isEmpty() ? new ArrayList<>() : redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < keys.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    epochs.merge(keys.get(i).substring(KEY_PREFIX.length()), Long.parseLong(value), Math::max);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Revocation epoch resync failed: {}", e.getMessage());
+        }
+
+        long oldest = System.currentTimeMillis() - retention.toMillis();
+        epochs.values().removeIf(epoch -> epoch < oldest);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        try {
+            epochs.merge(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)), Math::max);
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring malformed revocation epoch message");
+        }
+    }
+}
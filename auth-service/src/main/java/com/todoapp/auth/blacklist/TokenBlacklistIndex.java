@@ -0,0 +1,217 @@
+package com.todoapp.auth.blacklist;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Local front for the Redis token blacklist, keyed by revocation key (bl:{jti}, or
+ * blacklisted_token:{token} for tokens issued before jti). A Bloom filter answers
+ * "not blacklisted" for almost every token without a network hop; a bounded exact map
+ * of recently blacklisted keys answers most positives; only the remaining filter hits
+ * (older entries or false positives) go to Redis.
+ *
+ * Seeded by scanning Redis at startup and kept in sync from the pub/sub channel that
+ * every instance publishes to when it blacklists a token. Pub/sub is at-most-once, so
+ * each addition is also logged in a Redis sorted set scored by time; every instance
+ * reads what was added since its last catch-up every few seconds and whenever its
+ * subscription is (re)established, which bounds a missed message to the catch-up
+ * interval, well below the access token lifetime. Bloom filters cannot forget, so the
+ * filter is rebuilt periodically from Redis to drop expired tokens. Until the first
+ * seed succeeds every lookup goes to Redis.
+ */
+@Component
+public class TokenBlacklistIndex implements MessageListener, SubscriptionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenBlacklistIndex.class);
+
+    public static final String KEY_PREFIX = "bl:";
+    // Full-token keys of tokens without a jti; they disappear once those tokens expire
+    public static final String LEGACY_KEY_PREFIX = "blacklisted_token:";
+    public static final String CHANNEL = "token-blacklist";
+    // Sorted set of "{expiresAt}:{key}" scored by when the key was blacklisted
+    public static final String RECENT_KEY = "token-blacklist:recent";
+    // Overlap between catch-ups so entries written by instances with a lagging clock are not skipped
+    private static final long CLOCK_SKEW_MS = 5000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final int exactMaximumSize;
+
+    // key -> expiry in epoch millis
+    private final ConcurrentMap<String, Long> recent = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    // Filter being rebuilt; receives concurrent additions so none are lost in the swap
+    private volatile BloomFilter next;
+    private volatile boolean seeded;
+    private volatile long lastCatchUp;
+    private final Duration recentRetention;
+
+    public TokenBlacklistIndex(StringRedisTemplate redisTemplate,
+                               @Value("${security.blacklist.expected-entries:100000}") long expectedEntries,
+                               @Value("${security.blacklist.false-positive-rate:0.001}") double falsePositiveRate,
+                               @Value("${security.blacklist.exact-maximum-size:10000}") int exactMaximumSize,
+                               @Value("${security.blacklist.recent-retention:PT1H}") Duration recentRetention) {
+        this.redisTemplate = redisTemplate;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.exactMaximumSize = exactMaximumSize;
+        this.recentRetention = recentRetention;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${security.blacklist.rebuild-interval:PT30M}",
+            initialDelayString = "${security.blacklist.rebuild-interval:PT30M}")
+    public void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(expectedEntries, falsePositiveRate);
+        next = rebuilt;
+        long startedAt = System.currentTimeMillis();
+        try {
+            long count = scanInto(rebuilt, KEY_PREFIX) + scanInto(rebuilt, LEGACY_KEY_PREFIX);
+
+            long now = System.currentTimeMillis();
+            recent.values().removeIf(expiresAt -> expiresAt <= now);
+            recent.keySet().forEach(rebuilt::put);
+
+            filter = rebuilt;
+            if (!seeded) {
+                lastCatchUp = startedAt;
+            }
+            seeded = true;
+            logger.info("Token blacklist filter rebuilt with {} entries", count);
+        } catch (RuntimeException e) {
+            logger.warn("Token blacklist rebuild failed, keeping the current filter: {}", e.getMessage());
+        } finally {
+            next = null;
+        }
+    }
+
+    /**
+     * Reads keys blacklisted by any instance since the previous catch-up, covering
+     * pub/sub messages this instance missed.
+     */
+    @Scheduled(fixedDelayString = "${security.blacklist.catch-up-interval:PT10S}",
+            initialDelayString = "${security.blacklist.catch-up-interval:PT10S}")
+    public synchronized void catchUp() {
+        if (!seeded) {
+            // The next successful rebuild covers everything
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try {
+            Set<String> entries = redisTemplate.opsForZSet()
+                    .rangeByScore(RECENT_KEY, lastCatchUp - CLOCK_SKEW_MS, Double.POSITIVE_INFINITY);
+            if (entries != null) {
+                entries.forEach(this::addEntry);
+            }
+            redisTemplate.opsForZSet().removeRangeByScore(RECENT_KEY, 0, now - recentRetention.toMillis());
+            lastCatchUp = now;
+        } catch (RuntimeException e) {
+            logger.warn("Token blacklist catch-up failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Records a key blacklisted on this instance and tells the others. The Redis key
+     * must already be written so a concurrent rebuild's scan sees it.
+     */
+    public void add(String key, long expiresAtMillis) {
+        addLocally(key, expiresAtMillis);
+        String entry = expiresAtMillis + ":" + key;
+        try {
+            redisTemplate.opsForZSet().add(RECENT_KEY, entry, System.currentTimeMillis());
+            redisTemplate.convertAndSend(CHANNEL, entry);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to publish blacklisted token: {}", e.getMessage());
+        }
+    }
+
+    public boolean isBlacklisted(String key) {
+        if (seeded && !filter.mightContain(key)) {
+            return false;
+        }
+
+        Long expiresAt = recent.get(key);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            return true;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        } catch (RuntimeException e) {
+            // A filter hit we cannot confirm: fail closed rather than accept a possibly revoked token
+            logger.warn("Redis unavailable, treating possibly blacklisted token as blacklisted: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addEntry(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Called when the channel subscription is established, including after a reconnect:
+     * anything published while disconnected is read back from the recent set.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        CompletableFuture.runAsync(this::catchUp);
+    }
+
+    private void addEntry(String entry) {
+        int separator = entry.indexOf(':');
+        try {
+            addLocally(entry.substring(separator + 1), Long.parseLong(entry.substring(0, separator)));
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring malformed blacklist entry");
+        }
+    }
+
+    private long scanInto(BloomFilter target, String prefix) {
+        long count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                target.put(keys.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void addLocally(String key, long expiresAtMillis) {
+        filter.put(key);
+        BloomFilter rebuilding = next;
+        if (rebuilding != null) {
+            rebuilding.put(key);
+        }
+        if (recent.size() < exactMaximumSize) {
+            recent.put(key, expiresAtMillis);
+        }
+    }
+}
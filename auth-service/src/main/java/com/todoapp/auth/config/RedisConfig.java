@@ -1,9 +1,14 @@
 package com.todoapp.auth.config;
 
+import com.todoapp.auth.availability.AvailabilityIndex;
+import com.todoapp.auth.blacklist.RevocationEpochs;
+import com.todoapp.auth.blacklist.TokenBlacklistIndex;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -26,4 +31,17 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TokenBlacklistIndex blacklistIndex,
+                                                                       RevocationEpochs revocationEpochs,
+                                                                       AvailabilityIndex availabilityIndex) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(blacklistIndex, new ChannelTopic(TokenBlacklistIndex.CHANNEL));
+        container.addMessageListener(revocationEpochs, new ChannelTopic(RevocationEpochs.CHANNEL));
+        container.addMessageListener(availabilityIndex, new ChannelTopic(AvailabilityIndex.CHANNEL));
+        return container;
+    }
 }
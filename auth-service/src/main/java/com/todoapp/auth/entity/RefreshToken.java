@@ -1,5 +1,6 @@
 package com.todoapp.auth.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -7,7 +8,11 @@ import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Objects;
 
 @Entity
@@ -22,8 +27,10 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true, nullable = false, length = 500)
-    private String token;
+    // SHA-256 of the refresh JWT; the token itself is never stored
+    @JsonIgnore
+    @Column(name = "token_hash", unique = true, nullable = false, length = 32, columnDefinition = "BINARY(32)")
+    private byte[] tokenHash;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -50,12 +57,20 @@ public class RefreshToken {
 
     // Constructors
     public RefreshToken(String token, User user, LocalDateTime expiresAt) {
-        this.token = token;
+        this.tokenHash = hashToken(token);
         this.user = user;
         this.expiresAt = expiresAt;
     }
 
     // Helper methods
+    public static byte[] hashToken(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(this.expiresAt);
     }
@@ -78,12 +93,12 @@ public class RefreshToken {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         RefreshToken that = (RefreshToken) o;
-        return Objects.equals(id, that.id) && Objects.equals(token, that.token);
+        return Objects.equals(id, that.id) && Arrays.equals(tokenHash, that.tokenHash);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, token);
+        return 31 * Objects.hashCode(id) + Arrays.hashCode(tokenHash);
     }
 
     @Override
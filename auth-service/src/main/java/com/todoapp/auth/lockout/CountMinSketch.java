@@ -0,0 +1,65 @@
+package com.todoapp.auth.lockout;
+
+import com.todoapp.auth.util.DoubleHashing;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Thread-safe Count-Min Sketch over strings: depth rows of width counters, each key
+ * mapped to one counter per row by {@link DoubleHashing}. Memory is fixed at depth *
+ * width ints regardless of how many distinct keys are added.
+ *
+ * Adds use conservative update: only the key's counters that hold its current minimum
+ * are raised, so heavy keys inflate light ones far less than with plain increments.
+ * Estimates never undercount; the overcount stays below total / width per row, so the
+ * width must be sized for the largest burst expected within one sketch's lifetime.
+ * Adds are serialised to keep the read-then-raise step exact; estimates are lock-free.
+ */
+public class CountMinSketch {
+
+    private final AtomicIntegerArray counters;
+    private final int width;
+    private final int depth;
+
+    public CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.counters = new AtomicIntegerArray(width * depth);
+    }
+
+    /**
+     * Counts one occurrence of the key and returns its new estimate.
+     */
+    public synchronized int add(String key) {
+        int[] indexes = indexes(key);
+        int estimate = Integer.MAX_VALUE;
+        for (int index : indexes) {
+            estimate = Math.min(estimate, counters.get(index));
+        }
+
+        int updated = estimate + 1;
+        for (int index : indexes) {
+            if (counters.get(index) < updated) {
+                counters.set(index, updated);
+            }
+        }
+        return updated;
+    }
+
+    public int estimate(String key) {
+        int estimate = Integer.MAX_VALUE;
+        for (int index : indexes(key)) {
+            estimate = Math.min(estimate, counters.get(index));
+        }
+        return estimate;
+    }
+
+    private int[] indexes(String key) {
+        long[] hash = DoubleHashing.hash(key);
+        int[] indexes = new int[depth];
+        for (int row = 0; row < depth; row++) {
+            indexes[row] = row * width + (int) DoubleHashing.probe(hash, row, width);
+        }
+        return indexes;
+    }
+}
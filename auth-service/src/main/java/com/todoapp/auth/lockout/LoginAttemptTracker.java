@@ -0,0 +1,141 @@
+package com.todoapp.auth.lockout;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sliding-window failed-login counters in Redis, one sorted set per account and per
+ * client IP scored by attempt time. Recording a failure trims the window, adds the
+ * attempt, refreshes the TTL and counts in a single Lua call, so concurrent attempts
+ * on any instance are all counted without touching the users row.
+ *
+ * The window is security.account-lockout-duration. recordFailure throws when Redis
+ * is unavailable so the caller can fall back to the database counter; IP-only
+ * recording and the IP check fail open instead.
+ */
+@Component
+public class LoginAttemptTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptTracker.class);
+
+    private static final String ACCOUNT_PREFIX = "login-fail:user:";
+    private static final String IP_PREFIX = "login-fail:ip:";
+
+    // KEYS: sliding-window sets; ARGV: now (ms), window (ms), unique member. Returns each set's size.
+    // DefaultRedisScript needs the raw List class for a multi-bulk reply; the script returns integers only
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisScript<List<Long>> RECORD_FAILURE = new DefaultRedisScript("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local counts = {}
+            for i, key in ipairs(KEYS) do
+                redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+                redis.call('ZADD', key, now, ARGV[3])
+                redis.call('PEXPIRE', key, window)
+                counts[i] = redis.call('ZCARD', key)
+            end
+            return counts
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long windowMs;
+    private final int maxAttemptsPerIp;
+
+    public LoginAttemptTracker(StringRedisTemplate redisTemplate,
+                               @Value("${security.account-lockout-duration:3600000}") long windowMs,
+                               @Value("${security.max-login-attempts-per-ip:50}") int maxAttemptsPerIp) {
+        this.redisTemplate = redisTemplate;
+        this.windowMs = windowMs;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+    }
+
+    /**
+     * Seconds until the IP drops below its failure limit, or 0 when it may attempt a login.
+     */
+    public long ipRetryAfterSeconds(String clientIp) {
+        if (clientIp == null) {
+            return 0;
+        }
+
+        try {
+            String key = IP_PREFIX + clientIp;
+            long now = System.currentTimeMillis();
+            ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+            Long recent = zSet.count(key, now - windowMs + 1, Double.POSITIVE_INFINITY);
+            if (recent == null || recent < maxAttemptsPerIp) {
+                return 0;
+            }
+
+            // The IP is allowed again once enough of its oldest failures leave the window
+            Set<ZSetOperations.TypedTuple<String>> expiring =
+                    zSet.rangeByScoreWithScores(key, now - windowMs + 1, Double.POSITIVE_INFINITY,
+                            recent - maxAttemptsPerIp, 1);
+            if (expiring == null || expiring.isEmpty()) {
+                return 1;
+            }
+            double score = expiring.iterator().next().getScore();
+            return Math.max(1, ((long) score + windowMs - now + 999) / 1000);
+        } catch (RuntimeException e) {
+            logger.warn("IP login throttle unavailable: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Records a failed attempt and returns the account's failures within the window.
+     */
+    public long recordFailure(Long userId, String clientIp) {
+        long now = System.currentTimeMillis();
+        String member = now + ":" + ThreadLocalRandom.current().nextLong();
+        List<String> keys = clientIp == null
+                ? List.of(ACCOUNT_PREFIX + userId)
+                : List.of(ACCOUNT_PREFIX + userId, IP_PREFIX + clientIp);
+
+        List<Long> counts = redisTemplate.execute(RECORD_FAILURE, keys,
+                Long.toString(now), Long.toString(windowMs), member);
+        if (counts == null || counts.isEmpty()) {
+            throw new IllegalStateException("Login failure script returned no result");
+        }
+        return counts.get(0);
+    }
+
+    /**
+     * Records a failed attempt that has no account to charge (unknown user, locked or
+     * disabled account) against the client IP only, so guessing usernames is throttled too.
+     */
+    public void recordIpFailure(String clientIp) {
+        if (clientIp == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        String member = now + ":" + ThreadLocalRandom.current().nextLong();
+        try {
+            redisTemplate.execute(RECORD_FAILURE, List.of(IP_PREFIX + clientIp),
+                    Long.toString(now), Long.toString(windowMs), member);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to record login failure for IP: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Forgets an account's failures after a successful login.
+     */
+    public void clearAccount(Long userId) {
+        try {
+            redisTemplate.delete(ACCOUNT_PREFIX + userId);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to clear login failures for user {}: {}", userId, e.getMessage());
+        }
+    }
+}
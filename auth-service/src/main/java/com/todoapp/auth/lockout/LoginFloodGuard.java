@@ -0,0 +1,112 @@
+package com.todoapp.auth.lockout;
+
+import com.todoapp.auth.exception.TooManyAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Per-instance pre-authentication throttle on login attempts by client IP. Attempts
+ * are counted in two Count-Min Sketches, the current window and the one before it;
+ * the rate is the current count plus the previous count weighted by how much of it
+ * still overlaps a sliding window. Over the limit, the attempt is rejected before any
+ * Redis, database or hashing work. Memory stays at two fixed-size sketches however
+ * many addresses are seen.
+ *
+ * Sketch width trades memory for resistance to floods: an address is overcounted by
+ * at most about the window's total attempts / width, so a burst of N attempts per
+ * window from many addresses starts throttling innocent ones once N / width nears
+ * max-attempts. The default 65536 x 4 costs 1 MiB per sketch and keeps that below 2
+ * attempts at 120k attempts a minute; conservative update lowers it further.
+ */
+@Component
+public class LoginFloodGuard {
+
+    private final Clock clock;
+    private final long windowMs;
+    private final int maxAttempts;
+    private final int width;
+    private final int depth;
+    private final Counter throttled;
+    private volatile Window current;
+    private volatile Window previous;
+
+    @Autowired
+    public LoginFloodGuard(@Value("${security.login-throttle.window:PT1M}") Duration window,
+                           @Value("${security.login-throttle.max-attempts:30}") int maxAttempts,
+                           @Value("${security.login-throttle.sketch-width:65536}") int width,
+                           @Value("${security.login-throttle.sketch-depth:4}") int depth,
+                           MeterRegistry meterRegistry) {
+        this(window, maxAttempts, width, depth, meterRegistry, Clock.systemUTC());
+    }
+
+    LoginFloodGuard(Duration window, int maxAttempts, int width, int depth, MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        this.windowMs = window.toMillis();
+        this.maxAttempts = maxAttempts;
+        this.width = width;
+        this.depth = depth;
+        this.throttled = Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected by the per-IP flood guard")
+                .register(meterRegistry);
+        long start = alignedStart(clock.millis());
+        this.current = new Window(start, new CountMinSketch(width, depth));
+        this.previous = new Window(start - windowMs, new CountMinSketch(width, depth));
+    }
+
+    /**
+     * Counts a login attempt from the address and rejects it when the address is over its limit.
+     */
+    public void checkAndRecord(String clientIp) {
+        if (clientIp == null) {
+            return;
+        }
+
+        long now = clock.millis();
+        Window window = rotateIfNeeded(now);
+        Window before = previous;
+
+        int count = window.sketch().add(clientIp);
+        double overlap = 1.0 - (double) (now - window.start()) / windowMs;
+        double rate = count + (before.start() == window.start() - windowMs ? before.sketch().estimate(clientIp) * overlap : 0);
+        if (rate > maxAttempts) {
+            throttled.increment();
+            long retryAfterMs = window.start() + windowMs - now;
+            throw new TooManyAttemptsException("Too many login attempts, please try again later",
+                    Math.max(1, (retryAfterMs + 999) / 1000));
+        }
+    }
+
+    private Window rotateIfNeeded(long now) {
+        Window window = current;
+        if (now < window.start() + windowMs) {
+            return window;
+        }
+
+        synchronized (this) {
+            window = current;
+            if (now >= window.start() + windowMs) {
+                long start = alignedStart(now);
+                // After an idle gap longer than a window the old counts no longer overlap
+                previous = start == window.start() + windowMs
+                        ? window
+                        : new Window(start - windowMs, new CountMinSketch(width, depth));
+                window = new Window(start, new CountMinSketch(width, depth));
+                current = window;
+            }
+            return window;
+        }
+    }
+
+    private long alignedStart(long now) {
+        return now - (now % windowMs);
+    }
+
+    private record Window(long start, CountMinSketch sketch) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.todoapp.auth.maintenance;
+
+import com.todoapp.auth.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Deletes expired and old revoked refresh tokens in LIMIT-sized chunks, each in its
+ * own short transaction with a pause in between, so a purge never holds row locks
+ * on a large range of refresh_tokens or starves concurrent logins and refreshes.
+ * A run stops early after maxBatchesPerRun chunks; the rest goes in the next run.
+ *
+ * Every instance schedules the purge, so each run first takes a lease in Redis
+ * (SET NX PX with a random owner) and skips when another instance holds it. A run
+ * stops before its lease expires and releases it only if it still owns it, so two
+ * instances never delete from refresh_tokens at the same time. Without Redis the run
+ * is skipped; the next one catches up.
+ */
+@Component
+public class RefreshTokenPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenPurger.class);
+
+    public static final String LEASE_KEY = "refresh-token-purge:lease";
+
+    // Deletes the lease only while it still holds this run's owner token
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration pause;
+    private final int revokedRetentionDays;
+    private final Duration lease;
+
+    public RefreshTokenPurger(RefreshTokenRepository refreshTokenRepository,
+                              PlatformTransactionManager transactionManager,
+                              StringRedisTemplate redisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${security.token-purge.batch-size:1000}") int batchSize,
+                              @Value("${security.token-purge.max-batches-per-run:1000}") int maxBatchesPerRun,
+                              @Value("${security.token-purge.pause:PT0.2S}") Duration pause,
+                              @Value("${security.token-purge.revoked-retention-days:7}") int revokedRetentionDays,
+                              @Value("${security.token-purge.lease:PT15M}") Duration lease) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pause = pause;
+        this.revokedRetentionDays = revokedRetentionDays;
+        this.lease = lease;
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-purge.interval:PT1H}",
+            initialDelayString = "${security.token-purge.initial-delay:PT5M}")
+    public void purge() {
+        try {
+            underLease(deadline -> purgeExpired(deadline) + purgeRevoked(revokedRetentionDays, deadline));
+        } catch (RuntimeException e) {
+            logger.warn("Refresh token purge failed: {}", e.getMessage());
+        }
+    }
+
+    public long purgeExpired() {
+        return underLease(this::purgeExpired);
+    }
+
+    public long purgeRevoked(int daysOld) {
+        return underLease(deadline -> purgeRevoked(daysOld, deadline));
+    }
+
+    private long purgeExpired(long deadline) {
+        LocalDateTime now = LocalDateTime.now();
+        return purgeInChunks("expired", deadline, limit -> refreshTokenRepository.deleteExpiredTokensBatch(now, limit));
+    }
+
+    private long purgeRevoked(int daysOld, long deadline) {
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
+        return purgeInChunks("revoked", deadline,
+                limit -> refreshTokenRepository.deleteRevokedTokensOlderThanBatch(cutoffDate, limit));
+    }
+
+    /**
+     * Runs the purge while holding the cluster-wide lease, or returns 0 when another
+     * instance holds it. The purge gets the System.nanoTime deadline by which to stop.
+     */
+    private long underLease(LongUnaryOperator purge) {
+        String owner = UUID.randomUUID().toString();
+        // Leave a margin for the batch in flight when the deadline passes
+        long deadline = System.nanoTime() + lease.toNanos() * 9 / 10;
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, owner, lease);
+        } catch (RuntimeException e) {
+            logger.warn("Refresh token purge skipped, lease unavailable: {}", e.getMessage());
+            return 0;
+        }
+        if (!Boolean.TRUE.equals(acquired)) {
+            logger.debug("Refresh token purge skipped, another instance holds the lease");
+            return 0;
+        }
+
+        try {
+            return purge.applyAsLong(deadline);
+        } finally {
+            try {
+                redisTemplate.execute(RELEASE_LEASE, List.of(LEASE_KEY), owner);
+            } catch (RuntimeException e) {
+                // The lease expires on its own
+                logger.warn("Failed to release refresh token purge lease: {}", e.getMessage());
+            }
+        }
+    }
+
+    private long purgeInChunks(String reason, long deadline, IntUnaryOperator deleteBatch) {
+        Counter purged = meterRegistry.counter("auth.token.purge.rows", "reason", reason);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long total = 0;
+        int batches = 0;
+
+        try {
+            while (batches < maxBatchesPerRun && System.nanoTime() - deadline < 0) {
+                Integer deleted = transactionTemplate.execute(status -> deleteBatch.applyAsInt(batchSize));
+                batches++;
+                if (deleted == null || deleted == 0) {
+                    break;
+                }
+                total += deleted;
+                purged.increment(deleted);
+                if (deleted < batchSize) {
+                    break;
+                }
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            long nanos = sample.stop(meterRegistry.timer("auth.token.purge", "reason", reason));
+            if (total > 0) {
+                logger.info("Purged {} {} refresh tokens in {} batches ({} ms)",
+                        total, reason, batches, Duration.ofNanos(nanos).toMillis());
+            }
+        }
+        return total;
+    }
+}
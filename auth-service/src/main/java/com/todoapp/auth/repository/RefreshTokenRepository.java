@@ -15,10 +15,17 @@ import java.util.Optional;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
+    /**
+     * Find refresh token by the SHA-256 of its token string
+     */
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
     /**
      * Find refresh token by token string
      */
-    Optional<RefreshToken> findByToken(String token);
+    default Optional<RefreshToken> findByToken(String token) {
+        return findByTokenHash(RefreshToken.hashToken(token));
+    }
 
     /**
      * Find all valid refresh tokens for a user
@@ -39,8 +46,12 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     /**
      * Check if token exists and is valid
      */
-    @Query("SELECT COUNT(rt) > 0 FROM RefreshToken rt WHERE rt.token = :token AND rt.revoked = false AND rt.expiresAt > :now")
-    boolean existsValidToken(@Param("token") String token, @Param("now") LocalDateTime now);
+    @Query("SELECT COUNT(rt) > 0 FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash AND rt.revoked = false AND rt.expiresAt > :now")
+    boolean existsValidTokenHash(@Param("tokenHash") byte[] tokenHash, @Param("now") LocalDateTime now);
+
+    default boolean existsValidToken(String token, LocalDateTime now) {
+        return existsValidTokenHash(RefreshToken.hashToken(token), now);
+    }
 
     /**
      * Revoke all tokens for a user
@@ -53,8 +64,12 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
      * Revoke specific token
      */
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.token = :token")
-    void revokeToken(@Param("token") String token);
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.tokenHash = :tokenHash")
+    void revokeTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    default void revokeToken(String token) {
+        revokeTokenHash(RefreshToken.hashToken(token));
+    }
 
     /**
      * Delete expired tokens
@@ -70,6 +85,20 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     @Query("DELETE FROM RefreshToken rt WHERE rt.revoked = true AND rt.createdAt < :cutoffDate")
     void deleteRevokedTokensOlderThan(@Param("cutoffDate") LocalDateTime cutoffDate);
 
+    /**
+     * Delete up to limit expired tokens; returns the number deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredTokensBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Delete up to limit revoked tokens created before cutoffDate; returns the number deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE revoked = TRUE AND created_at < :cutoffDate LIMIT :limit", nativeQuery = true)
+    int deleteRevokedTokensOlderThanBatch(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("limit") int limit);
+
     /**
      * Find tokens by user and device info
      */
@@ -84,8 +113,19 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
      * Update last used timestamp
      */
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.lastUsed = :lastUsed WHERE rt.token = :token")
-    void updateLastUsed(@Param("token") String token, @Param("lastUsed") LocalDateTime lastUsed);
+    @Query("UPDATE RefreshToken rt SET rt.lastUsed = :lastUsed WHERE rt.tokenHash = :tokenHash")
+    void updateLastUsedByHash(@Param("tokenHash") byte[] tokenHash, @Param("lastUsed") LocalDateTime lastUsed);
+
+    default void updateLastUsed(String token, LocalDateTime lastUsed) {
+        updateLastUsedByHash(RefreshToken.hashToken(token), lastUsed);
+    }
+
+    /**
+     * Update last used timestamp for a batch of tokens, never moving it backwards
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.lastUsed = :lastUsed WHERE rt.id IN :ids AND (rt.lastUsed IS NULL OR rt.lastUsed < :lastUsed)")
+    void updateLastUsedByIds(@Param("ids") List<Long> ids, @Param("lastUsed") LocalDateTime lastUsed);
 
     /**
      * Find expired but not revoked tokens
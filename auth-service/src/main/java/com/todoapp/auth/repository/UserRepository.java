@@ -1,15 +1,19 @@
 package com.todoapp.auth.repository;
 
 import com.todoapp.auth.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -46,6 +50,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.username = :username OR u.email = :email")
     boolean existsByUsernameOrEmail(@Param("username") String username, @Param("email") String email);
 
+    /**
+     * Stream every id, username and email, fetched from the server in batches
+     */
+    @Query("SELECT u.id, u.username, u.email FROM User u")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Object[]> streamUsernamesAndEmails();
+
+    /**
+     * Id, username and email of users created after the given id, oldest first
+     */
+    @Query("SELECT u.id, u.username, u.email FROM User u WHERE u.id > :id ORDER BY u.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Object[]> findUsernamesAndEmailsAfter(@Param("id") Long id);
+
     /**
      * Find all active users
      */
@@ -74,6 +95,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("UPDATE User u SET u.lastLogin = :lastLogin WHERE u.id = :userId")
     void updateLastLogin(@Param("userId") Long userId, @Param("lastLogin") LocalDateTime lastLogin);
 
+    /**
+     * Update last login time for a batch of users, never moving it backwards
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.lastLogin = :lastLogin WHERE u.id IN :userIds AND (u.lastLogin IS NULL OR u.lastLogin < :lastLogin)")
+    void updateLastLoginByIds(@Param("userIds") List<Long> userIds, @Param("lastLogin") LocalDateTime lastLogin);
+
     /**
      * Update user's login attempts
      */
@@ -81,6 +109,32 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("UPDATE User u SET u.loginAttempts = :attempts WHERE u.id = :userId")
     void updateLoginAttempts(@Param("userId") Long userId, @Param("attempts") Integer attempts);
 
+    /**
+     * Record a failed login atomically, locking the account when the new count reaches maxAttempts.
+     * updatedAt marks the lock time, so it only moves when the account flips to locked.
+     * The lock columns are assigned before the counter because MySQL evaluates SET left to right.
+     */
+    @Modifying
+    @Query("UPDATE User u SET " +
+            "u.updatedAt = CASE WHEN u.accountLocked = false AND u.loginAttempts + 1 >= :maxAttempts THEN :now ELSE u.updatedAt END, " +
+            "u.accountLocked = CASE WHEN u.loginAttempts + 1 >= :maxAttempts THEN true ELSE u.accountLocked END, " +
+            "u.loginAttempts = u.loginAttempts + 1 " +
+            "WHERE u.id = :userId")
+    void recordFailedLogin(@Param("userId") Long userId,
+                           @Param("maxAttempts") Integer maxAttempts,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * Lock an account that reached its failure limit, recording the failure count.
+     * Matches only unlocked accounts so concurrent lockers write the row once.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.accountLocked = true, u.loginAttempts = :attempts, u.updatedAt = :now " +
+            "WHERE u.id = :userId AND u.accountLocked = false")
+    void lockUserAccountAfterFailures(@Param("userId") Long userId,
+                                      @Param("attempts") Integer attempts,
+                                      @Param("now") LocalDateTime now);
+
     /**
      * Lock user account
      */
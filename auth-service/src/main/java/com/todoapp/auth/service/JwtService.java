@@ -40,6 +40,8 @@ public interface JwtService {
 
     void blacklistToken(String token);
 
+    void revokeAllTokens(User user);
+
     long getTokenExpirationTime(String token);
 
     boolean shouldRefreshToken(String token);
@@ -27,6 +27,8 @@ public interface UserService {
 
     void handleFailedLogin(User user);
 
+    void handleFailedLogin(User user, long recentFailures);
+
     boolean shouldUnlockAccount(User user);
 
     void unlockAccount(Long userId);
@@ -63,5 +65,7 @@ public interface UserService {
 
     boolean validateCredentials(String usernameOrEmail, String password);
 
+    boolean verifyPassword(User user, String rawPassword);
+
     boolean canUserLogin(User user);
 }
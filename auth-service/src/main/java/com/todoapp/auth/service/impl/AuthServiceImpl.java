@@ -1,18 +1,27 @@
 package com.todoapp.auth.service.impl;
 
+import com.todoapp.auth.activity.ActivityWriteBehind;
 import com.todoapp.auth.dto.*;
 import com.todoapp.auth.entity.RefreshToken;
 import com.todoapp.auth.entity.User;
 import com.todoapp.auth.exception.InvalidCredentialsException;
 import com.todoapp.auth.exception.TokenExpiredException;
+import com.todoapp.auth.exception.TooManyAttemptsException;
 import com.todoapp.auth.exception.UserNotFoundException;
+import com.todoapp.auth.lockout.LoginAttemptTracker;
+import com.todoapp.auth.lockout.LoginFloodGuard;
+import com.todoapp.auth.maintenance.RefreshTokenPurger;
 import com.todoapp.auth.repository.RefreshTokenRepository;
 import com.todoapp.auth.service.AuthService;
 import com.todoapp.auth.service.JwtService;
 import com.todoapp.auth.service.UserService;
+import com.todoapp.auth.util.ClientIpResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -24,9 +33,16 @@ import java.util.Optional;
 @AllArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
+
     private final UserService userService;
     private final JwtService jwtService;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final ActivityWriteBehind activityWriteBehind;
+    private final RefreshTokenPurger refreshTokenPurger;
+    private final LoginAttemptTracker loginAttemptTracker;
+    private final LoginFloodGuard loginFloodGuard;
+    private final ClientIpResolver clientIpResolver;
 
     @Override
     public AuthResponse register(RegisterRequest registerRequest, HttpServletRequest request) {
@@ -44,10 +60,24 @@ public class AuthServiceImpl implements AuthService {
         );
     }
 
+    /**
+     * Runs without an enclosing transaction: the user is read once, the hash is checked
+     * without holding a connection, and each write commits on its own so failed attempts
+     * survive the InvalidCredentialsException.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse login(LoginRequest loginRequest, HttpServletRequest request) {
+        String clientIp = request != null ? clientIpResolver.resolve(request) : null;
+        loginFloodGuard.checkAndRecord(clientIp);
+        long retryAfter = loginAttemptTracker.ipRetryAfterSeconds(clientIp);
+        if (retryAfter > 0) {
+            throw new TooManyAttemptsException("Too many failed login attempts, please try again later", retryAfter);
+        }
+
         Optional<User> userOpt = userService.findByUsernameOrEmail(loginRequest.getUsernameOrEmail());
         if (userOpt.isEmpty()) {
+            loginAttemptTracker.recordIpFailure(clientIp);
             throw new InvalidCredentialsException("Invalid username/email or password");
         }
 
@@ -60,6 +90,7 @@ public class AuthServiceImpl implements AuthService {
         }
 
         if (!userService.canUserLogin(user)) {
+            loginAttemptTracker.recordIpFailure(clientIp);
             if (user.isAccountLocked()) {
                 throw new InvalidCredentialsException("Account is locked due to too many failed login attempts");
             } else {
@@ -67,12 +98,13 @@ public class AuthServiceImpl implements AuthService {
             }
         }
 
-        if (!userService.validateCredentials(loginRequest.getUsernameOrEmail(), loginRequest.getPassword())) {
-            userService.handleFailedLogin(user);
+        if (!userService.verifyPassword(user, loginRequest.getPassword())) {
+            recordFailedLogin(user, clientIp);
             throw new InvalidCredentialsException("Invalid username/email or password");
         }
 
         userService.handleSuccessfulLogin(user);
+        loginAttemptTracker.clearAccount(user.getId());
 
         String accessToken = jwtService.generateAccessToken(user);
         String refreshToken = jwtService.generateRefreshToken(user);
@@ -108,8 +140,7 @@ public class AuthServiceImpl implements AuthService {
             throw new InvalidCredentialsException("User account is disabled");
         }
 
-        refreshToken.updateLastUsed();
-        refreshTokenRepository.save(refreshToken);
+        activityWriteBehind.recordTokenUse(refreshToken.getId(), LocalDateTime.now());
 
         String newAccessToken = jwtService.generateAccessToken(user);
 
@@ -190,28 +221,28 @@ public class AuthServiceImpl implements AuthService {
                 });
     }
 
+    // The purger commits each chunk on its own, so these must not run inside a transaction
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cleanupExpiredTokens() {
-        refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now());
+        refreshTokenPurger.purgeExpired();
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cleanupOldRevokedTokens(int daysOld) {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
-        refreshTokenRepository.deleteRevokedTokensOlderThan(cutoffDate);
+        refreshTokenPurger.purgeRevoked(daysOld);
     }
 
     // Private helpers
     private void saveRefreshToken(User user, String tokenStr, HttpServletRequest request) {
         RefreshToken refreshToken = new RefreshToken();
-        refreshToken.setToken(tokenStr);
+        refreshToken.setTokenHash(RefreshToken.hashToken(tokenStr));
         refreshToken.setUser(user);
         refreshToken.setExpiresAt(LocalDateTime.now().plusNanos(jwtService.getRefreshTokenExpiration() * 1_000_000));
 
         if (request != null) {
-            refreshToken.setIpAddress(getClientIpAddress(request));
+            refreshToken.setIpAddress(clientIpResolver.resolve(request));
             refreshToken.setDeviceInfo(extractDeviceInfo(request));
         }
 
@@ -220,20 +251,21 @@ public class AuthServiceImpl implements AuthService {
 
     private void revokeAllUserTokens(User user) {
         refreshTokenRepository.revokeAllUserTokens(user);
+        // Outstanding access tokens too, without blacklisting them one by one
+        jwtService.revokeAllTokens(user);
     }
 
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
+    private void recordFailedLogin(User user, String clientIp) {
+        long recentFailures;
+        try {
+            recentFailures = loginAttemptTracker.recordFailure(user.getId(), clientIp);
+        } catch (RuntimeException e) {
+            // Without Redis, count on the users row as before
+            logger.warn("Login failure tracking unavailable, using database counter: {}", e.getMessage());
+            userService.handleFailedLogin(user);
+            return;
         }
-
-        return request.getRemoteAddr();
+        userService.handleFailedLogin(user, recentFailures);
     }
 
     private String extractDeviceInfo(HttpServletRequest request) {
@@ -1,5 +1,7 @@
 package com.todoapp.auth.service.impl;
 
+import com.todoapp.auth.blacklist.RevocationEpochs;
+import com.todoapp.auth.blacklist.TokenBlacklistIndex;
 import com.todoapp.auth.config.JwtConfig;
 import com.todoapp.auth.entity.User;
 import com.todoapp.auth.service.JwtService;
@@ -9,12 +11,14 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.AllArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -25,8 +29,14 @@ import java.util.function.Function;
 @AllArgsConstructor
 public class JwtServiceImpl implements JwtService {
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder JTI_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
     private final JwtConfig jwtConfig;
-    private final RedisTemplate<String, Object> redisTemplate;
+    // Plain string keys and values: revocation entries carry no JSON type metadata
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TokenBlacklistIndex blacklistIndex;
+    private final RevocationEpochs revocationEpochs;
 
     public long getAccessTokenExpiration() {
         return jwtConfig.getAccessTokenExpiration();
@@ -69,9 +79,12 @@ public class JwtServiceImpl implements JwtService {
 
         return Jwts.builder()
                 .claims(extraClaims)
+                .id(newTokenId())
                 .subject(subject)
                 .issuer(jwtConfig.getIssuer())
                 .issuedAt(now)
+                // iat has one-second resolution; revocation epochs are compared in millis
+                .claim(RevocationEpochs.ISSUED_AT_MS_CLAIM, now.getTime())
                 .expiration(expiryDate)
                 .signWith(getSigningKey(), Jwts.SIG.HS256)
                 .compact();
@@ -146,8 +159,7 @@ public class JwtServiceImpl implements JwtService {
      * Check if token is blacklisted
      */
     public boolean isTokenBlacklisted(String token) {
-        String key = "blacklisted_token:" + token;
-        return redisTemplate.hasKey(key);
+        return isRevoked(extractAllClaims(token), token);
     }
 
     /**
@@ -155,7 +167,8 @@ public class JwtServiceImpl implements JwtService {
      */
     public boolean isValidToken(String token) {
         try {
-            return !isTokenExpired(token) && !isTokenBlacklisted(token);
+            // Parsing rejects expired tokens, so one parse covers both checks
+            return !isRevoked(extractAllClaims(token), token);
         } catch (JwtException e) {
             return false;
         }
@@ -194,8 +207,9 @@ public class JwtServiceImpl implements JwtService {
             long ttl = expiration.getTime() - System.currentTimeMillis();
 
             if (ttl > 0) {
-                String key = "blacklisted_token:" + token;
-                redisTemplate.opsForValue().set(key, "blacklisted", ttl, TimeUnit.MILLISECONDS);
+                String key = revocationKey(extractAllClaims(token), token);
+                stringRedisTemplate.opsForValue().set(key, "1", ttl, TimeUnit.MILLISECONDS);
+                blacklistIndex.add(key, expiration.getTime());
             }
         } catch (Exception e) {
             // Token is already invalid, no need to blacklist
@@ -218,6 +232,50 @@ public class JwtServiceImpl implements JwtService {
         return expirationTime < 300; // Less than 5 minutes
     }
 
+    /**
+     * Revoke every token issued to the user so far (logout-all, password change)
+     */
+    public void revokeAllTokens(User user) {
+        revocationEpochs.revokeAll(user.getId().toString());
+    }
+
+    /**
+     * Answered locally: the per-user epoch is an in-memory comparison, and the
+     * blacklist only goes to Redis when its Bloom filter reports a possible match
+     */
+    private boolean isRevoked(Claims claims, String token) {
+        return revocationEpochs.isRevoked(claims.get("userId", String.class), issuedAtMillis(claims))
+                || blacklistIndex.isBlacklisted(revocationKey(claims, token));
+    }
+
+    /**
+     * Issue time in millis from iat_ms, falling back to iat for tokens minted without it
+     */
+    private static Long issuedAtMillis(Claims claims) {
+        Long issuedAtMs = claims.get(RevocationEpochs.ISSUED_AT_MS_CLAIM, Long.class);
+        if (issuedAtMs != null) {
+            return issuedAtMs;
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : null;
+    }
+
+    /**
+     * Revocation key: bl:{jti}; tokens issued before jti existed fall back to the full token
+     */
+    private String revocationKey(Claims claims, String token) {
+        String jti = claims.getId();
+        return jti != null ? TokenBlacklistIndex.KEY_PREFIX + jti : TokenBlacklistIndex.LEGACY_KEY_PREFIX + token;
+    }
+
+    /**
+     * 128 random bits, base64url without padding (22 characters)
+     */
+    private static String newTokenId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return JTI_ENCODER.encodeToString(bytes);
+    }
+
     /**
      * Get signing key
      */
@@ -1,5 +1,7 @@
 package com.todoapp.auth.service.impl;
 
+import com.todoapp.auth.activity.ActivityWriteBehind;
+import com.todoapp.auth.availability.AvailabilityIndex;
 import com.todoapp.auth.dto.RegisterRequest;
 import com.todoapp.auth.dto.UserDto;
 import com.todoapp.auth.entity.User;
@@ -10,6 +12,7 @@ import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -23,10 +26,15 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ActivityWriteBehind activityWriteBehind;
+    private final AvailabilityIndex availabilityIndex;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                           ActivityWriteBehind activityWriteBehind, AvailabilityIndex availabilityIndex) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.activityWriteBehind = activityWriteBehind;
+        this.availabilityIndex = availabilityIndex;
     }
 
     @Value("${security.max-login-attempts:5}")
@@ -54,7 +62,9 @@ public class UserServiceImpl implements UserService {
         user.setAccountLocked(false);
         user.setLoginAttempts(0);
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        availabilityIndex.add(saved.getUsername(), saved.getEmail());
+        return saved;
     }
 
     /**
@@ -110,24 +120,43 @@ public class UserServiceImpl implements UserService {
      * Handle successful login
      */
     public void handleSuccessfulLogin(User user) {
-        // Reset login attempts and unlock account if needed
-        user.resetLoginAttempts();
-        user.setLastLogin(LocalDateTime.now());
-        userRepository.save(user);
+        // Reset login attempts and unlock account if needed; last login is written behind
+        if (user.isAccountLocked() || (user.getLoginAttempts() != null && user.getLoginAttempts() > 0)) {
+            userRepository.unlockUserAccount(user.getId());
+            user.resetLoginAttempts();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        activityWriteBehind.recordLogin(user.getId(), now);
+        user.setLastLogin(now);
     }
 
     /**
      * Handle failed login attempt
      */
     public void handleFailedLogin(User user) {
+        // Increment in the database so concurrent failures are all counted
+        userRepository.recordFailedLogin(user.getId(), maxLoginAttempts, LocalDateTime.now());
         user.incrementLoginAttempts();
 
         // Lock account if max attempts reached
         if (user.getLoginAttempts() >= maxLoginAttempts) {
             user.setAccountLocked(true);
         }
+    }
 
-        userRepository.save(user);
+    /**
+     * Handle failed login attempt counted outside the database; the row is only
+     * written when the failures within the lockout window reach the limit
+     */
+    public void handleFailedLogin(User user, long recentFailures) {
+        if (recentFailures < maxLoginAttempts || user.isAccountLocked()) {
+            return;
+        }
+
+        int attempts = (int) Math.min(recentFailures, Integer.MAX_VALUE);
+        userRepository.lockUserAccountAfterFailures(user.getId(), attempts, LocalDateTime.now());
+        user.setLoginAttempts(attempts);
+        user.setAccountLocked(true);
     }
 
     /**
@@ -171,17 +200,18 @@ public class UserServiceImpl implements UserService {
     /**
      * Check if username exists
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean existsByUsername(String username) {
-        return userRepository.existsByUsername(username);
+        // Most checks are answered in memory; only possible matches reach the database
+        return availabilityIndex.isUsernameTaken(username, userRepository::existsByUsername);
     }
 
     /**
      * Check if email exists
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return availabilityIndex.isEmailTaken(email, userRepository::existsByEmail);
     }
 
     /**
@@ -292,6 +322,7 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(Long userId) {
         User user = findById(userId);
         userRepository.delete(user);
+        availabilityIndex.forget(user.getUsername(), user.getEmail());
     }
 
     /**
@@ -305,8 +336,15 @@ public class UserServiceImpl implements UserService {
             return false;
         }
 
-        User user = userOpt.get();
-        return passwordEncoder.matches(password, user.getPassword());
+        return verifyPassword(userOpt.get(), password);
+    }
+
+    /**
+     * Verify a password against an already loaded user
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean verifyPassword(User user, String rawPassword) {
+        return passwordEncoder.matches(rawPassword, user.getPassword());
     }
 
     /**
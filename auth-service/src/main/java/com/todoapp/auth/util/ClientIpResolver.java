@@ -0,0 +1,67 @@
+package com.todoapp.auth.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client address for session records and login throttling. X-Forwarded-For is only
+ * honoured when the request arrives from a trusted proxy (the gateway), and then read
+ * from the right: each trusted hop appends the address it received from, so the first
+ * untrusted entry from the right is the real client. Entries further left are set by
+ * the client and never used, so rotating or forging them cannot dodge or redirect a
+ * throttle.
+ */
+@Component
+public class ClientIpResolver {
+
+    private final List<IpAddressMatcher> trustedProxies = new ArrayList<>();
+
+    public ClientIpResolver(@Value("${security.trusted-proxies:127.0.0.0/8,::1/128}") List<String> trustedProxies) {
+        for (String proxy : trustedProxies) {
+            if (!proxy.isBlank()) {
+                this.trustedProxies.add(new IpAddressMatcher(proxy.trim()));
+            }
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor == null || xForwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+
+        String[] hops = xForwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !isTrusted(hop)) {
+                return hop;
+            }
+        }
+        // Every hop is a trusted proxy: the leftmost one is as close to the client as we get
+        String first = hops[0].trim();
+        return first.isEmpty() ? remoteAddr : first;
+    }
+
+    private boolean isTrusted(String address) {
+        try {
+            for (IpAddressMatcher proxy : trustedProxies) {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Not an IP address (malformed header entry)
+        }
+        return false;
+    }
+}
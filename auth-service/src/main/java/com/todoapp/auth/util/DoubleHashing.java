@@ -0,0 +1,41 @@
+package com.todoapp.auth.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Hashing shared by the in-memory probabilistic structures (Bloom filter, Count-Min
+ * Sketch). A key is hashed once with 64-bit FNV-1a; two values derived from it by
+ * different mixers drive double hashing, so the i-th probe is h1 + i * h2.
+ */
+public final class DoubleHashing {
+
+    private DoubleHashing() {
+    }
+
+    /**
+     * Two independent 64-bit values for the key; the second is odd so probes never repeat early.
+     */
+    public static long[] hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        long h1 = mix(h ^ 0x9e3779b97f4a7c15L);
+        long h2 = mix(h + 0xc2b2ae3d27d4eb4fL) | 1L;
+        return new long[]{h1, h2};
+    }
+
+    /**
+     * The i-th probe position in [0, range).
+     */
+    public static long probe(long[] hash, int i, long range) {
+        return Math.floorMod(hash[0] + i * hash[1], range);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,69 @@
+package com.todoapp.auth.lockout;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountMinSketchTest {
+
+    @Test
+    void neverUndercounts() {
+        // Narrow sketch so collisions are frequent
+        CountMinSketch sketch = new CountMinSketch(64, 4);
+        Map<String, Integer> exact = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            // Skewed: a few heavy keys and a long tail
+            String key = "10.0.0." + (random.nextBoolean() ? random.nextInt(5) : random.nextInt(1_000));
+            int count = exact.merge(key, 1, Integer::sum);
+            assertTrue(sketch.add(key) >= count, "add undercounted " + key);
+        }
+
+        exact.forEach((key, count) ->
+                assertTrue(sketch.estimate(key) >= count, "estimate undercounted " + key));
+    }
+
+    @Test
+    void countsExactlyWithoutCollisions() {
+        CountMinSketch sketch = new CountMinSketch(65_536, 4);
+        for (int i = 0; i < 7; i++) {
+            sketch.add("192.168.1.1");
+        }
+        sketch.add("192.168.1.2");
+
+        assertEquals(7, sketch.estimate("192.168.1.1"));
+        assertEquals(1, sketch.estimate("192.168.1.2"));
+        assertEquals(0, sketch.estimate("192.168.1.3"));
+    }
+
+    @Test
+    void neverUndercountsUnderConcurrentAdds() throws InterruptedException {
+        CountMinSketch sketch = new CountMinSketch(32, 4);
+        int threads = 8;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    sketch.add("key-" + (i % 100));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        for (int k = 0; k < 100; k++) {
+            int exact = threads * perThread / 100;
+            assertTrue(sketch.estimate("key-" + k) >= exact, "undercounted key-" + k);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.todoapp.auth.lockout;
+
+import com.todoapp.auth.exception.TooManyAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginFloodGuardTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+    private static final int MAX_ATTEMPTS = 5;
+    // Window-aligned, so offsets below are positions inside a window
+    private static final long START_MS = 1_000 * WINDOW.toMillis();
+
+    private final StepClock clock = new StepClock(START_MS);
+
+    @Test
+    void throttlesAnAddressOverTheLimit() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LoginFloodGuard guard = guard(registry);
+        clock.advance(Duration.ofSeconds(15));
+        record(guard, "203.0.113.7", MAX_ATTEMPTS);
+
+        TooManyAttemptsException e = assertThrows(TooManyAttemptsException.class,
+                () -> guard.checkAndRecord("203.0.113.7"));
+
+        // Retry once the current window ends
+        assertEquals(45, e.getRetryAfterSeconds());
+        assertEquals(1.0, registry.get("auth.login.throttled").counter().count());
+    }
+
+    @Test
+    void countsAddressesSeparately() {
+        LoginFloodGuard guard = guard(new SimpleMeterRegistry());
+        record(guard, "203.0.113.7", MAX_ATTEMPTS);
+
+        assertDoesNotThrow(() -> guard.checkAndRecord("198.51.100.1"));
+    }
+
+    @Test
+    void ignoresRequestsWithoutAnAddress() {
+        LoginFloodGuard guard = new LoginFloodGuard(WINDOW, 0, 4096, 4, new SimpleMeterRegistry(), clock);
+
+        assertDoesNotThrow(() -> guard.checkAndRecord(null));
+    }
+
+    @Test
+    void carriesThePreviousWindowIntoTheNext() {
+        LoginFloodGuard guard = guard(new SimpleMeterRegistry());
+        record(guard, "203.0.113.7", MAX_ATTEMPTS);
+
+        // Early in the next window most of the previous count still overlaps
+        clock.advance(WINDOW.plusSeconds(1));
+        assertThrows(TooManyAttemptsException.class, () -> guard.checkAndRecord("203.0.113.7"));
+    }
+
+    @Test
+    void weighsThePreviousWindowByItsOverlap() {
+        LoginFloodGuard guard = guard(new SimpleMeterRegistry());
+        record(guard, "203.0.113.7", MAX_ATTEMPTS);
+
+        // Halfway through the next window the previous 5 attempts weigh 2.5
+        clock.advance(WINDOW.plus(WINDOW.dividedBy(2)));
+        assertDoesNotThrow(() -> record(guard, "203.0.113.7", 2));
+        assertThrows(TooManyAttemptsException.class, () -> guard.checkAndRecord("203.0.113.7"));
+    }
+
+    @Test
+    void forgetsCountsAfterAnIdleGap() {
+        LoginFloodGuard guard = guard(new SimpleMeterRegistry());
+        record(guard, "203.0.113.7", MAX_ATTEMPTS);
+
+        // Two full windows later neither the current nor the previous sketch holds those attempts
+        clock.advance(WINDOW.multipliedBy(2));
+
+        assertDoesNotThrow(() -> guard.checkAndRecord("203.0.113.7"));
+    }
+
+    private LoginFloodGuard guard(SimpleMeterRegistry registry) {
+        return new LoginFloodGuard(WINDOW, MAX_ATTEMPTS, 4096, 4, registry, clock);
+    }
+
+    private static void record(LoginFloodGuard guard, String clientIp, int attempts) {
+        for (int i = 0; i < attempts; i++) {
+            guard.checkAndRecord(clientIp);
+        }
+    }
+
+    private static final class StepClock extends Clock {
+
+        private volatile long millis;
+
+        private StepClock(long millis) {
+            this.millis = millis;
+        }
+
+        private void advance(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -22,7 +22,7 @@ CREATE TABLE todo_auth.users (
 -- Refresh tokens table
 CREATE TABLE todo_auth.refresh_tokens (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
-    token VARCHAR(500) NOT NULL UNIQUE,
+    token_hash BINARY(32) NOT NULL UNIQUE,
     user_id BIGINT NOT NULL,
     expires_at TIMESTAMP NOT NULL,
     revoked BOOLEAN NOT NULL DEFAULT FALSE,
@@ -33,7 +33,6 @@ CREATE TABLE todo_auth.refresh_tokens (
 
     FOREIGN KEY (user_id) REFERENCES todo_auth.users(id) ON DELETE CASCADE,
 
-    INDEX idx_token (token),
     INDEX idx_user_id (user_id),
     INDEX idx_expires_at (expires_at),
     INDEX idx_revoked (revoked),
@@ -36,7 +36,13 @@ CREATE TABLE todo_task.tasks (
     INDEX idx_priority (priority),
     INDEX idx_due_date (due_date),
     INDEX idx_created_at (created_at),
-    INDEX idx_updated_at (updated_at)
+    INDEX idx_updated_at (updated_at),
+    INDEX idx_user_completed_due (user_id, completed, due_date),
+    INDEX idx_user_created_id (user_id, created_at, id),
+    INDEX idx_user_completed_created_id (user_id, completed, created_at, id),
+    INDEX idx_user_category (user_id, category_id),
+    INDEX idx_user_due (user_id, due_date),
+    FULLTEXT INDEX ft_title_description (title, description) WITH PARSER ngram
 );
 
 -- Task tags
@@ -88,6 +94,30 @@ CREATE TABLE todo_task.task_activity_log (
 
     FOREIGN KEY (task_id) REFERENCES todo_task.tasks(id) ON DELETE CASCADE
 );
+
+-- Fired due-date transitions (DUE_SOON, DUE, OVERDUE)
+CREATE TABLE todo_task.task_due_events (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    task_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL, -- reference to todo_auth.users.id (no FK)
+    event_type VARCHAR(20) NOT NULL,
+    due_date TIMESTAMP NOT NULL,
+    fired_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    UNIQUE KEY unique_task_event_due (task_id, event_type, due_date),
+    INDEX idx_user_fired (user_id, fired_at),
+    FOREIGN KEY (task_id) REFERENCES todo_task.tasks(id) ON DELETE CASCADE
+);
+
+-- Per-user task counters (seeded lazily from tasks on first use)
+CREATE TABLE todo_task.task_user_stats (
+    user_id BIGINT PRIMARY KEY, -- reference to todo_auth.users.id (no FK)
+    total_tasks BIGINT NOT NULL DEFAULT 0,
+    completed_tasks BIGINT NOT NULL DEFAULT 0,
+    high_priority_tasks BIGINT NOT NULL DEFAULT 0,
+    medium_priority_tasks BIGINT NOT NULL DEFAULT 0,
+    low_priority_tasks BIGINT NOT NULL DEFAULT 0
+);
 -- ============================================
 -- INSERT SAMPLE DATA
 -- ============================================
@@ -0,0 +1,5 @@
+-- FULLTEXT index for search.engine=fulltext on existing databases.
+-- The ngram parser tokenizes text without relying on word boundaries
+-- (ngram_token_size, default 2, is a server setting).
+ALTER TABLE todo_task.tasks
+    ADD FULLTEXT INDEX ft_title_description (title, description) WITH PARSER ngram;
@@ -0,0 +1,17 @@
+-- Store refresh tokens as their SHA-256 digest instead of the full JWT.
+-- Existing rows are backfilled from the stored token, so live sessions keep
+-- working; the VARCHAR(500) column and its two indexes are then dropped.
+-- Run while auth-service is stopped: older builds still read and write `token`.
+ALTER TABLE todo_auth.refresh_tokens
+    ADD COLUMN token_hash BINARY(32) NULL AFTER id;
+
+UPDATE todo_auth.refresh_tokens
+SET token_hash = UNHEX(SHA2(token, 256))
+WHERE token_hash IS NULL;
+
+ALTER TABLE todo_auth.refresh_tokens
+    MODIFY token_hash BINARY(32) NOT NULL,
+    ADD UNIQUE INDEX uk_token_hash (token_hash),
+    DROP INDEX idx_token,
+    DROP INDEX token,
+    DROP COLUMN token;
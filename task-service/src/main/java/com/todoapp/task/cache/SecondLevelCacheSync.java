@@ -0,0 +1,96 @@
+package com.todoapp.task.cache;
+
+import com.todoapp.task.config.CacheConfig;
+import com.todoapp.task.entity.TaskCategory;
+import com.todoapp.task.entity.TaskTag;
+import com.todoapp.task.event.TaskMetadataChangedEvent;
+import com.todoapp.task.event.TaskMetadataCreatedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Keeps the per-process Hibernate second-level cache of categories and tags in step
+ * across task-service instances. Hibernate only invalidates the local regions on a
+ * write, so after each committed change the affected entity and the metadata query
+ * region are evicted here and on every other instance via pub/sub.
+ *
+ * Eviction is best effort: a missed message leaves an instance serving the old entry
+ * until the region's TTL. Task-response reads accept that, since a stale entry can at
+ * worst show an old category or tag name until the TTL. Category validation guards a
+ * foreign key before a write, so it reads the database, not this cache.
+ */
+@Component
+public class SecondLevelCacheSync implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheSync.class);
+
+    public static final String CHANNEL = "task-l2:evict";
+
+    private static final String CATEGORY = "category";
+    private static final String TAG = "tag";
+    private static final String QUERIES = "queries";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+
+    public SecondLevelCacheSync(EntityManagerFactory entityManagerFactory, StringRedisTemplate redisTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @TransactionalEventListener
+    public void onTaskMetadataChanged(TaskMetadataChangedEvent event) {
+        String entity = event.getEntityType() == TaskCategory.class ? CATEGORY : TAG;
+        broadcast(entity + ":" + event.getEntityId());
+    }
+
+    @TransactionalEventListener
+    public void onTaskMetadataCreated(TaskMetadataCreatedEvent event) {
+        broadcast(QUERIES);
+    }
+
+    /**
+     * Receives evictions from every instance, including this one.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            evict(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring malformed second-level cache eviction message");
+        }
+    }
+
+    private void broadcast(String eviction) {
+        evict(eviction);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, eviction);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to publish second-level cache eviction {}: {}", eviction, e.getMessage());
+        }
+    }
+
+    private void evict(String eviction) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        int separator = eviction.indexOf(':');
+        if (separator > 0) {
+            Long id = Long.valueOf(eviction.substring(separator + 1));
+            String entity = eviction.substring(0, separator);
+            if (CATEGORY.equals(entity)) {
+                cache.evictEntityData(TaskCategory.class, id);
+            } else if (TAG.equals(entity)) {
+                cache.evictEntityData(TaskTag.class, id);
+            }
+        }
+        cache.evictQueryRegion(CacheConfig.METADATA_QUERY_REGION);
+    }
+}
@@ -0,0 +1,34 @@
+package com.todoapp.task.cache;
+
+import com.todoapp.task.dto.response.TaskResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Cached form of a page of tasks; PageImpl itself does not round-trip through JSON.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageSnapshot {
+
+    private List<TaskResponse> content;
+
+    private long totalElements;
+
+    public static TaskPageSnapshot of(Page<TaskResponse> page) {
+        return new TaskPageSnapshot(page.getContent(), page.getTotalElements());
+    }
+
+    public Page<TaskResponse> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
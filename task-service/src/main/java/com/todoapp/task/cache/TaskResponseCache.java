@@ -0,0 +1,318 @@
+package com.todoapp.task.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.todoapp.task.dto.response.CursorPageResponse;
+import com.todoapp.task.dto.response.TaskResponse;
+import com.todoapp.task.event.TaskBatchChangedEvent;
+import com.todoapp.task.event.TaskChangedEvent;
+import com.todoapp.task.event.TaskMetadataChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache of task responses: a bounded in-process Caffeine cache (L1) in front
+ * of Redis (L2), shared by all task-service instances.
+ *
+ * Every key embeds the user's cache generation, a Redis counter bumped after each
+ * committed write that affects the user's tasks. Bumping it orphans all of the
+ * user's entries at once on every instance; the new value is broadcast on a pub/sub
+ * channel so other instances switch to it immediately, and locally known generations
+ * expire after a few seconds so a missed message only delays that briefly. A reader
+ * takes the generation before loading, so a value computed while a write commits is
+ * stored under the old generation and never served afterwards.
+ *
+ * When a Redis call fails the cache is bypassed for a few seconds and reads go
+ * straight to the database, so an outage costs one client timeout per retry interval
+ * rather than one per read. After the interval a single reader probes Redis again.
+ * Invalidations that could not reach Redis meanwhile are replayed once it answers, so
+ * entries written before the outage are not served to other instances afterwards.
+ */
+@Component
+public class TaskResponseCache implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskResponseCache.class);
+
+    public static final String INVALIDATION_CHANNEL = "task-cache:invalidate";
+    private static final String GENERATION_KEY_PREFIX = "task-cache:gen:";
+    private static final String ENTRY_KEY_PREFIX = "task-cache:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Object> localEntries;
+    private final Cache<Long, Long> generations;
+    private final Duration remoteTtl;
+    private final long remoteRetryNanos;
+    private final boolean enabled;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    private volatile boolean remoteDown;
+    // System.nanoTime() after which one reader may probe Redis again
+    private final AtomicLong remoteRetryAt = new AtomicLong();
+    // Users whose generation bump failed while Redis was down
+    private final Set<Long> missedInvalidations = ConcurrentHashMap.newKeySet();
+
+    private final JavaType taskType;
+    private final JavaType pageType;
+    private final JavaType cursorPageType;
+    private final JavaType listType;
+
+    public TaskResponseCache(StringRedisTemplate redisTemplate,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${task.cache.enabled:true}") boolean enabled,
+                             @Value("${task.cache.local.maximum-size:10000}") long localMaximumSize,
+                             @Value("${task.cache.local.ttl:PT1M}") Duration localTtl,
+                             @Value("${task.cache.generation-ttl:PT5S}") Duration generationTtl,
+                             @Value("${task.cache.remote.ttl:PT10M}") Duration remoteTtl,
+                             @Value("${task.cache.remote.retry-after:PT5S}") Duration remoteRetryAfter) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.remoteTtl = remoteTtl;
+        this.remoteRetryNanos = remoteRetryAfter.toNanos();
+        this.localEntries = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(generationTtl)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localEntries, "task-responses", "cache.layer", "l1");
+        this.remoteHits = Counter.builder("task.response.cache.remote")
+                .tag("result", "hit").register(meterRegistry);
+        this.remoteMisses = Counter.builder("task.response.cache.remote")
+                .tag("result", "miss").register(meterRegistry);
+
+        this.taskType = objectMapper.getTypeFactory().constructType(TaskResponse.class);
+        this.pageType = objectMapper.getTypeFactory().constructType(TaskPageSnapshot.class);
+        this.cursorPageType = objectMapper.getTypeFactory()
+                .constructParametricType(CursorPageResponse.class, TaskResponse.class);
+        this.listType = objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, TaskResponse.class);
+    }
+
+    public TaskResponse getTask(Long userId, Long taskId, Supplier<TaskResponse> loader) {
+        return get(userId, "task:" + taskId, taskType, loader);
+    }
+
+    public Page<TaskResponse> getPage(Long userId, String signature, Pageable pageable, Supplier<Page<TaskResponse>> loader) {
+        TaskPageSnapshot snapshot = get(userId, "page:" + signature, pageType, () -> TaskPageSnapshot.of(loader.get()));
+        return snapshot.toPage(pageable);
+    }
+
+    public CursorPageResponse<TaskResponse> getCursorPage(Long userId, String signature,
+                                                          Supplier<CursorPageResponse<TaskResponse>> loader) {
+        return get(userId, "cursor:" + signature, cursorPageType, loader);
+    }
+
+    public List<TaskResponse> getList(Long userId, String signature, Supplier<List<TaskResponse>> loader) {
+        return get(userId, "list:" + signature, listType, loader);
+    }
+
+    /**
+     * Stable signature of a request object for use in a cache key.
+     */
+    public String signatureOf(Object request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot build cache key", e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        invalidateUser(event.getUserId());
+    }
+
+    @TransactionalEventListener
+    public void onTaskBatchChanged(TaskBatchChangedEvent event) {
+        invalidateUser(event.getUserId());
+    }
+
+    @TransactionalEventListener
+    public void onTaskMetadataChanged(TaskMetadataChangedEvent event) {
+        invalidateUser(event.getUserId());
+    }
+
+    /**
+     * Receives generations bumped by any instance, including this one.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        try {
+            generations.asMap().merge(Long.valueOf(parts[0]), Long.valueOf(parts[1]), Math::max);
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring malformed cache invalidation message");
+        }
+    }
+
+    private void invalidateUser(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        if (remoteAvailable() && bumpGeneration(userId)) {
+            return;
+        }
+
+        // Other instances catch up when the bump is replayed; this one stops serving stale entries now
+        missedInvalidations.add(userId);
+        generations.invalidate(userId);
+        String prefix = userId + ":";
+        localEntries.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private boolean bumpGeneration(Long userId) {
+        try {
+            Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + userId);
+            generations.asMap().merge(userId, generation, Math::max);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId + ":" + generation);
+            markRemoteUp();
+            return true;
+        } catch (RuntimeException e) {
+            markRemoteDown(e);
+            return false;
+        }
+    }
+
+    private boolean replayMissedInvalidations() {
+        for (Iterator<Long> it = missedInvalidations.iterator(); it.hasNext(); ) {
+            if (!bumpGeneration(it.next())) {
+                return false;
+            }
+            it.remove();
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Long userId, String entryKey, JavaType type, Supplier<T> loader) {
+        if (!enabled || !remoteAvailable()) {
+            return loader.get();
+        }
+        if (!missedInvalidations.isEmpty() && !replayMissedInvalidations()) {
+            return loader.get();
+        }
+        Long generation = currentGeneration(userId);
+        if (generation == null) {
+            return loader.get();
+        }
+
+        String key = userId + ":" + generation + ":" + entryKey;
+        Object local = localEntries.getIfPresent(key);
+        if (local != null) {
+            return (T) local;
+        }
+
+        T value = readRemote(key, type);
+        if (value == null) {
+            value = loader.get();
+            if (remoteDown) {
+                // The read just failed; skip the write rather than wait out another timeout
+                return value;
+            }
+            writeRemote(key, value);
+        }
+        localEntries.put(key, value);
+        return value;
+    }
+
+    private Long currentGeneration(Long userId) {
+        return generations.get(userId, id -> {
+            try {
+                String value = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + id);
+                markRemoteUp();
+                return value != null ? Long.valueOf(value) : 0L;
+            } catch (RuntimeException e) {
+                markRemoteDown(e);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * True while Redis is considered up. Once the retry interval after a failure has
+     * passed, exactly one caller gets true and probes; the others keep bypassing.
+     */
+    private boolean remoteAvailable() {
+        if (!remoteDown) {
+            return true;
+        }
+        long retryAt = remoteRetryAt.get();
+        long now = System.nanoTime();
+        return now - retryAt >= 0 && remoteRetryAt.compareAndSet(retryAt, now + remoteRetryNanos);
+    }
+
+    private void markRemoteDown(RuntimeException e) {
+        remoteRetryAt.set(System.nanoTime() + remoteRetryNanos);
+        if (!remoteDown) {
+            remoteDown = true;
+            logger.warn("Task cache bypassed, Redis unavailable: {}", e.getMessage());
+        }
+    }
+
+    private void markRemoteUp() {
+        if (remoteDown) {
+            remoteDown = false;
+            logger.info("Task cache re-enabled, Redis reachable again");
+        }
+    }
+
+    private <T> T readRemote(String key, JavaType type) {
+        try {
+            String json = redisTemplate.opsForValue().get(ENTRY_KEY_PREFIX + key);
+            markRemoteUp();
+            if (json == null) {
+                remoteMisses.increment();
+                return null;
+            }
+            remoteHits.increment();
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            logger.debug("Task cache entry unreadable for {}: {}", key, e.getMessage());
+            return null;
+        } catch (RuntimeException e) {
+            markRemoteDown(e);
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, Object value) {
+        try {
+            redisTemplate.opsForValue().set(ENTRY_KEY_PREFIX + key, objectMapper.writeValueAsString(value), remoteTtl);
+        } catch (JsonProcessingException e) {
+            logger.debug("Task cache write failed for {}: {}", key, e.getMessage());
+        } catch (RuntimeException e) {
+            markRemoteDown(e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.todoapp.task.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+
+/**
+ * Second-level cache wiring. Hibernate is handed the same Caffeine JCache manager
+ * that the metrics binder reads, so hit, miss, put and eviction counts for every
+ * region show up under the cache.* meters on the actuator.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String CATEGORY_REGION = "task-categories";
+    public static final String TAG_REGION = "task-tags";
+    public static final String METADATA_QUERY_REGION = "task-metadata-queries";
+
+    private static final List<String> REGIONS = List.of(
+            CATEGORY_REGION, TAG_REGION, METADATA_QUERY_REGION,
+            "default-query-results-region", "default-update-timestamps-region");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+        // Regions are declared in application.conf, so getCache creates them from that configuration
+        return registry -> REGIONS.forEach(region ->
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(region), Tags.of("cache.layer", "l2")));
+    }
+}
@@ -0,0 +1,43 @@
+package com.todoapp.task.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Two pools on the same database. The primary pool serves JPA and every other
+ * query. The export pool is small, read-only and opens connections with
+ * useCursorFetch, which also switches Connector/J to server-side prepared
+ * statements; keeping it off the primary pool spares ordinary queries the extra
+ * prepare/close round trips.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    public static final String EXPORT_DATA_SOURCE = "exportDataSource";
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // Not a default candidate, so injecting a plain DataSource still gets the primary pool
+    @Bean(name = EXPORT_DATA_SOURCE, defaultCandidate = false)
+    public HikariDataSource exportDataSource(DataSourceProperties properties,
+                                             @Value("${task.export.pool-size:2}") int poolSize) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("task-export");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(0);
+        dataSource.setReadOnly(true);
+        // Server-side cursor: rows arrive in fetch-size batches instead of the whole result at once
+        dataSource.addDataSourceProperty("useCursorFetch", "true");
+        return dataSource;
+    }
+}
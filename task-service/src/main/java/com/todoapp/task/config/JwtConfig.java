@@ -15,4 +15,6 @@ public class JwtConfig {
     private long accessTokenExpiration;
     private long refreshTokenExpiration;
     private String issuer;
+    // Verified tokens kept in memory until they expire (jwt.verified-cache-size)
+    private long verifiedCacheSize = 10000;
 }
\ No newline at end of file
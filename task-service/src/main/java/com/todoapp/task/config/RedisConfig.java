@@ -0,0 +1,32 @@
+package com.todoapp.task.config;
+
+import com.todoapp.task.cache.SecondLevelCacheSync;
+import com.todoapp.task.cache.TaskResponseCache;
+import com.todoapp.task.search.TaskSearchIndex;
+import com.todoapp.task.security.RevocationEpochs;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TaskResponseCache taskResponseCache,
+                                                                       RevocationEpochs revocationEpochs,
+                                                                       SecondLevelCacheSync secondLevelCacheSync,
+                                                                       ObjectProvider<TaskSearchIndex> taskSearchIndex) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(taskResponseCache, new ChannelTopic(TaskResponseCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(revocationEpochs, new ChannelTopic(RevocationEpochs.CHANNEL));
+        container.addMessageListener(secondLevelCacheSync, new ChannelTopic(SecondLevelCacheSync.CHANNEL));
+        // Only registered when search.engine=index
+        taskSearchIndex.ifAvailable(index -> container.addMessageListener(index, new ChannelTopic(TaskSearchIndex.CHANNEL)));
+        return container;
+    }
+}
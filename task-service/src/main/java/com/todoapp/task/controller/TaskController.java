@@ -1,21 +1,31 @@
 package com.todoapp.task.controller;
 
+import com.todoapp.task.dto.request.TaskBatchRequest;
+import com.todoapp.task.dto.request.TaskFilterRequest;
 import com.todoapp.task.dto.request.TaskRequest;
 import com.todoapp.task.dto.response.ApiResponse;
+import com.todoapp.task.dto.response.CursorPageResponse;
+import com.todoapp.task.dto.response.TaskBatchResponse;
 import com.todoapp.task.dto.response.TaskResponse;
 import com.todoapp.task.dto.response.TaskStatisticsResponse;
+import com.todoapp.task.enums.ExportFormat;
 import com.todoapp.task.enums.Priority;
 import com.todoapp.task.security.UserPrincipal;
+import com.todoapp.task.service.TaskExportService;
 import com.todoapp.task.service.TaskService;
+import com.todoapp.task.util.Constants;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -26,6 +36,9 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskExportService taskExportService;
+
     @PostMapping
     public ResponseEntity<ApiResponse<TaskResponse>> createTask(
             @Valid @RequestBody TaskRequest request,
@@ -36,6 +49,15 @@ public class TaskController {
                 .body(ApiResponse.success("Task created successfully", task));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<TaskBatchResponse>> processBatch(
+            @Valid @RequestBody TaskBatchRequest request,
+            @AuthenticationPrincipal UserPrincipal user) {
+
+        TaskBatchResponse result = taskService.processBatch(request.getOperations(), user.getId());
+        return ResponseEntity.ok(ApiResponse.success("Batch processed", result));
+    }
+
     @GetMapping
     public ResponseEntity<ApiResponse<Page<TaskResponse>>> getAllTasks(
             @RequestParam(defaultValue = "0") int page,
@@ -47,6 +69,33 @@ public class TaskController {
         return ResponseEntity.ok(ApiResponse.success("Tasks retrieved successfully", tasks));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TaskResponse>>> getTasksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) Boolean completed,
+            @AuthenticationPrincipal UserPrincipal user) {
+
+        int pageLimit = Math.max(1, Math.min(limit, Constants.MAX_PAGE_SIZE));
+        CursorPageResponse<TaskResponse> tasks = taskService.getTasksByCursor(user.getId(), completed, cursor, pageLimit);
+        return ResponseEntity.ok(ApiResponse.success("Tasks retrieved successfully", tasks));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal UserPrincipal user) {
+
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        Long userId = user.getId();
+        StreamingResponseBody body = outputStream -> taskExportService.exportTasks(userId, exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{taskId}")
     public ResponseEntity<ApiResponse<TaskResponse>> getTaskById(
             @PathVariable Long taskId,
@@ -84,6 +133,19 @@ public class TaskController {
         return ResponseEntity.ok(ApiResponse.success("Task deleted successfully", null));
     }
 
+    @GetMapping("/query")
+    public ResponseEntity<ApiResponse<Page<TaskResponse>>> queryTasks(
+            @ModelAttribute TaskFilterRequest filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal user) {
+
+        // Ordering comes from the filter's sortBy/direction
+        Pageable pageable = PageRequest.of(page, Math.min(size, Constants.MAX_PAGE_SIZE));
+        Page<TaskResponse> tasks = taskService.queryTasks(user.getId(), filter, pageable);
+        return ResponseEntity.ok(ApiResponse.success("Tasks retrieved successfully", tasks));
+    }
+
     @GetMapping("/completed")
     public ResponseEntity<ApiResponse<Page<TaskResponse>>> getCompletedTasks(
             @RequestParam(defaultValue = "0") int page,
@@ -132,11 +194,14 @@ public class TaskController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> searchTasks(
+    public ResponseEntity<ApiResponse<Page<TaskResponse>>> searchTasks(
             @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal UserPrincipal user) {
 
-        List<TaskResponse> tasks = taskService.searchTasks(user.getId(), keyword);
+        Pageable pageable = PageRequest.of(page, size);
+        Page<TaskResponse> tasks = taskService.searchTasks(user.getId(), keyword, pageable);
         return ResponseEntity.ok(ApiResponse.success("Search results retrieved", tasks));
     }
 
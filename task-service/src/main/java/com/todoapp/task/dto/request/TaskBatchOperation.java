@@ -0,0 +1,24 @@
+package com.todoapp.task.dto.request;
+
+import com.todoapp.task.enums.BatchOperationType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskBatchOperation {
+
+    @NotNull(message = "Operation type is required")
+    private BatchOperationType type;
+
+    // Required for UPDATE and DELETE
+    private Long taskId;
+
+    // Required for CREATE and UPDATE; validated with the operation in processBatch
+    @Valid
+    private TaskRequest task;
+}
@@ -0,0 +1,21 @@
+package com.todoapp.task.dto.request;
+
+import com.todoapp.task.util.Constants;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskBatchRequest {
+
+    @NotEmpty(message = "Operations are required")
+    @Size(max = Constants.MAX_BATCH_SIZE, message = "A batch cannot exceed " + Constants.MAX_BATCH_SIZE + " operations")
+    // Not cascaded: each operation is validated by processBatch and its failure reported per item
+    private List<TaskBatchOperation> operations;
+}
@@ -0,0 +1,41 @@
+package com.todoapp.task.dto.request;
+
+import com.todoapp.task.enums.Priority;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Query parameters of GET /api/tasks/query; every filter is optional and they combine with AND.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskFilterRequest {
+
+    private Boolean completed;
+
+    private List<Priority> priorities;
+
+    private List<Long> categoryIds;
+
+    private List<Long> tagIds;
+
+    // any: task has at least one of tagIds; all: task has every one of them
+    private String tagMatch = "any";
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dueTo;
+
+    // createdAt, updatedAt, dueDate, priority or title
+    private String sortBy = "createdAt";
+
+    private String direction = "desc";
+}
@@ -0,0 +1,24 @@
+package com.todoapp.task.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+
+    // Opaque token for the next page; null when there is none
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    private int size;
+}
@@ -0,0 +1,35 @@
+package com.todoapp.task.dto.response;
+
+import com.todoapp.task.enums.BatchOperationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskBatchItemResponse {
+
+    // Position of the operation in the request
+    private int index;
+
+    private BatchOperationType type;
+
+    private Long taskId;
+
+    private boolean success;
+
+    private TaskResponse task;
+
+    private String error;
+
+    public static TaskBatchItemResponse success(int index, BatchOperationType type, Long taskId, TaskResponse task) {
+        return new TaskBatchItemResponse(index, type, taskId, true, task, null);
+    }
+
+    public static TaskBatchItemResponse failure(int index, BatchOperationType type, Long taskId, String error) {
+        return new TaskBatchItemResponse(index, type, taskId, false, null, error);
+    }
+}
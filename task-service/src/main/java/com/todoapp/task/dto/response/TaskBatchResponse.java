@@ -0,0 +1,21 @@
+package com.todoapp.task.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskBatchResponse {
+
+    private List<TaskBatchItemResponse> results;
+
+    private int successCount;
+
+    private int failureCount;
+}
@@ -0,0 +1,306 @@
+package com.todoapp.task.due;
+
+import com.todoapp.task.entity.Task;
+import com.todoapp.task.enums.DueEventType;
+import com.todoapp.task.event.TaskBatchChangedEvent;
+import com.todoapp.task.event.TaskChangedEvent;
+import com.todoapp.task.event.TaskDueTransitionEvent;
+import com.todoapp.task.repository.TaskDueEventRepository;
+import com.todoapp.task.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fires DUE_SOON, DUE and OVERDUE transitions for pending tasks from an in-memory
+ * timing wheel and records each one in task_due_events.
+ *
+ * Only tasks whose DUE_SOON instant falls before {@code loadedUntil} are held in the
+ * wheel; a periodic refill reads the next slice of due dates by index range, and
+ * task changes reschedule the affected task once their transaction commits. Each
+ * task has at most one pending timer, for its next transition. Transitions missed
+ * while the service was down are collapsed to the latest one and fired on startup;
+ * the unique key on task_due_events keeps a transition from being recorded twice.
+ */
+@Component
+@ConditionalOnProperty(name = "due.events.enabled", havingValue = "true", matchIfMissing = true)
+public class DueDateScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DueDateScheduler.class);
+
+    private static final long TICK_MS = 1000L;
+    private static final int WHEEL_SIZE = 60;
+    private static final long POLL_TIMEOUT_MS = 200L;
+
+    private final ConcurrentMap<Long, ScheduledTransition> scheduled = new ConcurrentHashMap<>();
+    private final TaskRepository taskRepository;
+    private final TaskDueEventRepository dueEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${due.events.due-soon-before:PT24H}")
+    private Duration dueSoonBefore;
+
+    @Value("${due.events.overdue-grace:PT1H}")
+    private Duration overdueGrace;
+
+    @Value("${due.events.horizon:PT6H}")
+    private Duration horizon;
+
+    @Value("${due.events.refill-interval:PT1H}")
+    private Duration refillInterval;
+
+    @Value("${due.events.catch-up:PT24H}")
+    private Duration catchUp;
+
+    @Value("${due.events.workers:2}")
+    private int workerCount;
+
+    private HierarchicalTimer timer;
+    private Thread driver;
+    private ExecutorService workers;
+    private ScheduledExecutorService refiller;
+    private volatile boolean running;
+    // DUE_SOON instants before this are scheduled; null until the initial load has started
+    private volatile LocalDateTime loadedUntil;
+
+    public DueDateScheduler(TaskRepository taskRepository,
+                            TaskDueEventRepository dueEventRepository,
+                            ApplicationEventPublisher eventPublisher) {
+        this.taskRepository = taskRepository;
+        this.dueEventRepository = dueEventRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        timer = new HierarchicalTimer(TICK_MS, WHEEL_SIZE, System.currentTimeMillis());
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> daemon(runnable, "due-event-worker"));
+        refiller = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "due-event-refill"));
+        running = true;
+
+        driver = daemon(this::drive, "due-event-timer");
+        driver.start();
+
+        LocalDateTime now = LocalDateTime.now();
+        loadedUntil = now.plus(horizon);
+        List<Task> tasks = taskRepository.findPendingDueBetween(now.minus(catchUp), loadedUntil.plus(dueSoonBefore));
+        tasks.forEach(task -> reschedule(task, null));
+        logger.info("Due-date scheduler started with {} tasks", tasks.size());
+
+        long refillMs = refillInterval.toMillis();
+        refiller.scheduleWithFixedDelay(this::refill, refillMs, refillMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (driver != null) {
+            driver.interrupt();
+        }
+        if (refiller != null) {
+            refiller.shutdownNow();
+        }
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (loadedUntil == null) {
+            // Not started yet; the initial load reads current data
+            return;
+        }
+
+        Optional<Task> task = taskRepository.findById(event.getTaskId());
+        if (task.isPresent()) {
+            reschedule(task.get(), null);
+        } else {
+            cancel(event.getTaskId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskBatchChanged(TaskBatchChangedEvent event) {
+        if (loadedUntil == null) {
+            return;
+        }
+
+        // One read for the whole batch; ids it no longer returns were deleted
+        Map<Long, Task> tasks = taskRepository.findAllById(event.getTaskIds()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        for (Long taskId : event.getTaskIds()) {
+            Task task = tasks.get(taskId);
+            if (task != null) {
+                reschedule(task, null);
+            } else {
+                cancel(taskId);
+            }
+        }
+    }
+
+    public int getScheduledCount() {
+        return scheduled.size();
+    }
+
+    private void refill() {
+        try {
+            LocalDateTime from = loadedUntil;
+            LocalDateTime until = LocalDateTime.now().plus(horizon);
+            if (!until.isAfter(from)) {
+                return;
+            }
+            // Advance first so changes committed during the read schedule themselves
+            loadedUntil = until;
+            List<Task> tasks = taskRepository.findPendingDueBetween(from.plus(dueSoonBefore), until.plus(dueSoonBefore));
+            tasks.forEach(task -> reschedule(task, null));
+            logger.debug("Due-date scheduler loaded {} tasks up to {}", tasks.size(), until);
+        } catch (RuntimeException e) {
+            logger.error("Due-date refill failed", e);
+        }
+    }
+
+    private void drive() {
+        while (running) {
+            try {
+                for (Runnable action : timer.advance(POLL_TIMEOUT_MS)) {
+                    workers.execute(action);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Due-date timer failed", e);
+            }
+        }
+    }
+
+    /**
+     * Schedules the next transition of a task strictly after {@code after} (all of them
+     * when null), replacing whatever timer the task had for a different due date.
+     */
+    private void reschedule(Task task, DueEventType after) {
+        Long taskId = task.getId();
+        LocalDateTime dueDate = task.getDueDate();
+        if (dueDate == null || Boolean.TRUE.equals(task.getCompleted())
+                || !dueDate.minus(dueSoonBefore).isBefore(loadedUntil)) {
+            // Nothing to fire, or the refill will pick it up
+            cancel(taskId);
+            return;
+        }
+
+        scheduled.compute(taskId, (id, existing) -> {
+            if (existing != null) {
+                if (after == null && existing.dueDate.equals(dueDate)) {
+                    return existing;
+                }
+                existing.entry.cancel();
+            }
+
+            DueEventType type = nextTransition(dueDate, after);
+            if (type == null) {
+                return null;
+            }
+            long fireAt = toEpochMilli(transitionTime(dueDate, type));
+            HierarchicalTimer.Entry entry = timer.schedule(fireAt, () -> fire(taskId, dueDate, type));
+            return new ScheduledTransition(dueDate, type, entry);
+        });
+    }
+
+    private void cancel(Long taskId) {
+        ScheduledTransition removed = scheduled.remove(taskId);
+        if (removed != null) {
+            removed.entry.cancel();
+        }
+    }
+
+    private void fire(Long taskId, LocalDateTime dueDate, DueEventType type) {
+        try {
+            Optional<Task> current = taskRepository.findById(taskId);
+            if (current.isEmpty()) {
+                cancel(taskId);
+                return;
+            }
+
+            Task task = current.get();
+            if (Boolean.TRUE.equals(task.getCompleted()) || !dueDate.equals(task.getDueDate())) {
+                // Changed since it was scheduled; the task's current state decides what comes next
+                reschedule(task, null);
+                return;
+            }
+
+            int inserted = dueEventRepository.insertIfAbsent(taskId, task.getUserId(), type.name(), dueDate, LocalDateTime.now());
+            if (inserted > 0) {
+                eventPublisher.publishEvent(new TaskDueTransitionEvent(task.getUserId(), taskId, type, dueDate));
+            }
+
+            scheduled.computeIfPresent(taskId, (id, existing) ->
+                    existing.dueDate.equals(dueDate) && existing.type == type ? null : existing);
+            reschedule(task, type);
+        } catch (RuntimeException e) {
+            logger.error("Failed to fire {} for task {}", type, taskId, e);
+        }
+    }
+
+    /**
+     * The latest transition after {@code after} that is already due, so missed
+     * transitions collapse into one; otherwise the earliest upcoming one.
+     */
+    private DueEventType nextTransition(LocalDateTime dueDate, DueEventType after) {
+        LocalDateTime now = LocalDateTime.now();
+        DueEventType next = null;
+        for (DueEventType type : DueEventType.values()) {
+            if (after != null && type.ordinal() <= after.ordinal()) {
+                continue;
+            }
+            if (transitionTime(dueDate, type).isAfter(now)) {
+                return next != null ? next : type;
+            }
+            next = type;
+        }
+        return next;
+    }
+
+    private LocalDateTime transitionTime(LocalDateTime dueDate, DueEventType type) {
+        return switch (type) {
+            case DUE_SOON -> dueDate.minus(dueSoonBefore);
+            case DUE -> dueDate;
+            case OVERDUE -> dueDate.plus(overdueGrace);
+        };
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private record ScheduledTransition(LocalDateTime dueDate, DueEventType type, HierarchicalTimer.Entry entry) {
+    }
+}
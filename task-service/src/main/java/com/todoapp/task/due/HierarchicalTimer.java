@@ -0,0 +1,223 @@
+package com.todoapp.task.due;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel. Level 0 has wheelSize buckets of tickMs each; each
+ * overflow level's tick is the span of the level below, so any expiration fits in
+ * a few levels and scheduling or cancelling is O(1). Only non-empty buckets sit in a
+ * DelayQueue, so the driver sleeps until the next bucket is due instead of ticking.
+ *
+ * Level-0 buckets expire at the end of their tick: timers fire at most one tick late,
+ * never early. All state is guarded by this object's monitor; {@link #advance} is
+ * meant to be called in a loop by a single driver thread. Bucket deadlines are read
+ * from the given clock, so a test can step time instead of sleeping through it.
+ */
+public class HierarchicalTimer {
+
+    private final DelayQueue<Bucket> queue = new DelayQueue<>();
+    private final List<Entry> ready = new ArrayList<>();
+    private final Clock clock;
+    private final Wheel wheel;
+
+    public HierarchicalTimer(long tickMs, int wheelSize, long startMs) {
+        this(tickMs, wheelSize, startMs, Clock.systemUTC());
+    }
+
+    public HierarchicalTimer(long tickMs, int wheelSize, long startMs, Clock clock) {
+        this.clock = clock;
+        this.wheel = new Wheel(tickMs, wheelSize, startMs, true);
+    }
+
+    /**
+     * Schedules an action; one whose expiration has already passed runs on the next advance.
+     */
+    public synchronized Entry schedule(long expirationMs, Runnable action) {
+        Entry entry = new Entry(expirationMs, action);
+        if (!wheel.add(entry)) {
+            ready.add(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Waits up to timeoutMs for the next bucket to expire, advances the clock and
+     * returns the actions that are now due.
+     */
+    public List<Runnable> advance(long timeoutMs) throws InterruptedException {
+        Bucket bucket = queue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+
+        synchronized (this) {
+            while (bucket != null) {
+                wheel.advanceClock(bucket.getExpiration());
+                bucket.flush(entry -> {
+                    if (!wheel.add(entry)) {
+                        ready.add(entry);
+                    }
+                });
+                bucket = queue.poll();
+            }
+
+            List<Runnable> actions = new ArrayList<>(ready.size());
+            for (Entry entry : ready) {
+                if (!entry.cancelled) {
+                    actions.add(entry.action);
+                }
+            }
+            ready.clear();
+            return actions;
+        }
+    }
+
+    public synchronized int size() {
+        return wheel.size();
+    }
+
+    public final class Entry {
+
+        private final long expirationMs;
+        private final Runnable action;
+        private Bucket bucket;
+        private boolean cancelled;
+
+        private Entry(long expirationMs, Runnable action) {
+            this.expirationMs = expirationMs;
+            this.action = action;
+        }
+
+        public long getExpirationMs() {
+            return expirationMs;
+        }
+
+        public void cancel() {
+            synchronized (HierarchicalTimer.this) {
+                cancelled = true;
+                if (bucket != null) {
+                    bucket.remove(this);
+                }
+            }
+        }
+    }
+
+    private final class Wheel {
+
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final boolean lowest;
+        private final Bucket[] buckets;
+        private long currentTime;
+        private Wheel overflow;
+
+        private Wheel(long tickMs, int wheelSize, long startMs, boolean lowest) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.lowest = lowest;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+            this.currentTime = startMs - (startMs % tickMs);
+        }
+
+        // Returns false when the entry is already due
+        private boolean add(Entry entry) {
+            long expiration = entry.expirationMs;
+            if (entry.cancelled) {
+                return true;
+            }
+            if (lowest ? expiration < currentTime : expiration < currentTime + tickMs) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                long virtualId = expiration / tickMs;
+                Bucket bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(entry);
+                // Level 0 releases a bucket once its tick has fully passed; upper levels
+                // release at the start of their span so entries cascade down in time
+                long bucketExpiration = (lowest ? virtualId + 1 : virtualId) * tickMs;
+                if (bucket.setExpiration(bucketExpiration)) {
+                    queue.offer(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Wheel(interval, wheelSize, currentTime, false);
+            }
+            return overflow.add(entry);
+        }
+
+        private void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+
+        private int size() {
+            int size = 0;
+            for (Bucket bucket : buckets) {
+                size += bucket.entries.size();
+            }
+            return overflow == null ? size : size + overflow.size();
+        }
+    }
+
+    private final class Bucket implements Delayed {
+
+        private final Set<Entry> entries = new LinkedHashSet<>();
+        private volatile long expiration = -1L;
+
+        private void add(Entry entry) {
+            entries.add(entry);
+            entry.bucket = this;
+        }
+
+        private void remove(Entry entry) {
+            if (entries.remove(entry)) {
+                entry.bucket = null;
+            }
+        }
+
+        private boolean setExpiration(long expirationMs) {
+            long previous = expiration;
+            expiration = expirationMs;
+            return previous != expirationMs;
+        }
+
+        private long getExpiration() {
+            return expiration;
+        }
+
+        private void flush(Consumer<Entry> reinsert) {
+            List<Entry> flushed = new ArrayList<>(entries);
+            entries.clear();
+            expiration = -1L;
+            for (Entry entry : flushed) {
+                entry.bucket = null;
+                reinsert.accept(entry);
+            }
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(expiration - clock.millis(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiration, ((Bucket) other).expiration);
+        }
+    }
+}
@@ -27,7 +27,12 @@ import java.util.Set;
         @Index(name = "idx_due_date", columnList = "due_date"),
         @Index(name = "idx_priority", columnList = "priority"),
         @Index(name = "idx_user_completed", columnList = "user_id, completed"),
-        @Index(name = "idx_user_priority", columnList = "user_id, priority")
+        @Index(name = "idx_user_priority", columnList = "user_id, priority"),
+        @Index(name = "idx_user_completed_due", columnList = "user_id, completed, due_date"),
+        @Index(name = "idx_user_created_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_user_completed_created_id", columnList = "user_id, completed, created_at, id"),
+        @Index(name = "idx_user_category", columnList = "user_id, category_id"),
+        @Index(name = "idx_user_due", columnList = "user_id, due_date")
 })
 @Getter
 @Setter
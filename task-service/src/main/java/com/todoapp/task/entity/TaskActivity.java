@@ -0,0 +1,58 @@
+package com.todoapp.task.entity;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.todoapp.task.enums.ActivityType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "task_activity_log")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "activity_type", nullable = false)
+    private ActivityType activityType;
+
+    @Column(name = "old_value", columnDefinition = "TEXT")
+    private String oldValue;
+
+    @Column(name = "new_value", columnDefinition = "TEXT")
+    private String newValue;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @CreatedDate
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public TaskActivity(Long taskId, Long userId, ActivityType activityType, String oldValue, String newValue) {
+        this.taskId = taskId;
+        this.userId = userId;
+        this.activityType = activityType;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.description = activityType.getDescription();
+    }
+}
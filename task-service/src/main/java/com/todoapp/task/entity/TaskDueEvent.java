@@ -0,0 +1,51 @@
+package com.todoapp.task.entity;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.todoapp.task.enums.DueEventType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A due-date transition that has fired. Unique per task, type and due date, so a
+ * transition is recorded once even if it fires again after a restart.
+ */
+@Entity
+@Table(name = "task_due_events",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "unique_task_event_due", columnNames = {"task_id", "event_type", "due_date"})
+        },
+        indexes = {
+                @Index(name = "idx_user_fired", columnList = "user_id, fired_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskDueEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private DueEventType eventType;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Column(name = "due_date", nullable = false)
+    private LocalDateTime dueDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Column(name = "fired_at", nullable = false)
+    private LocalDateTime firedAt;
+}
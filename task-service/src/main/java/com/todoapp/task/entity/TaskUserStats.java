@@ -0,0 +1,37 @@
+package com.todoapp.task.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "task_user_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskUserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "total_tasks", nullable = false)
+    private Long totalTasks = 0L;
+
+    @Column(name = "completed_tasks", nullable = false)
+    private Long completedTasks = 0L;
+
+    @Column(name = "high_priority_tasks", nullable = false)
+    private Long highPriorityTasks = 0L;
+
+    @Column(name = "medium_priority_tasks", nullable = false)
+    private Long mediumPriorityTasks = 0L;
+
+    @Column(name = "low_priority_tasks", nullable = false)
+    private Long lowPriorityTasks = 0L;
+
+    public TaskUserStats(Long userId) {
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,7 @@
+package com.todoapp.task.enums;
+
+public enum BatchOperationType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
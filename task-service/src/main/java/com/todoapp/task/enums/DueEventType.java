@@ -0,0 +1,10 @@
+package com.todoapp.task.enums;
+
+/**
+ * Due-date transitions of a pending task, in the order they fire.
+ */
+public enum DueEventType {
+    DUE_SOON,
+    DUE,
+    OVERDUE
+}
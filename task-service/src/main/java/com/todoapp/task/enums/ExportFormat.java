@@ -0,0 +1,25 @@
+package com.todoapp.task.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+    NDJSON("ndjson", "application/x-ndjson", "ndjson"),
+    CSV("csv", "text/csv", "csv");
+
+    private final String value;
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat fromValue(String value) {
+        for (ExportFormat format : ExportFormat.values()) {
+            if (format.value.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid export format: " + value);
+    }
+}
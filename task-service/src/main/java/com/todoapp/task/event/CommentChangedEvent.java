@@ -0,0 +1,17 @@
+package com.todoapp.task.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published inside the transaction that added or removed a comment on a task.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentChangedEvent {
+
+    // Owner of the task the comment belongs to
+    private final Long userId;
+
+    private final Long taskId;
+}
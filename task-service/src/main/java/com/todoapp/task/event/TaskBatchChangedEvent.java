@@ -0,0 +1,19 @@
+package com.todoapp.task.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Published once inside the transaction that applied a batch of task operations,
+ * carrying every task the batch created, updated or deleted.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskBatchChangedEvent {
+
+    private final Long userId;
+
+    private final Set<Long> taskIds;
+}
@@ -0,0 +1,16 @@
+package com.todoapp.task.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published inside the transaction that created, updated or deleted a task.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskChangedEvent {
+
+    private final Long userId;
+
+    private final Long taskId;
+}
@@ -0,0 +1,23 @@
+package com.todoapp.task.event;
+
+import com.todoapp.task.enums.DueEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published once a due-date transition has been recorded in task_due_events.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskDueTransitionEvent {
+
+    private final Long userId;
+
+    private final Long taskId;
+
+    private final DueEventType type;
+
+    private final LocalDateTime dueDate;
+}
@@ -0,0 +1,18 @@
+package com.todoapp.task.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published inside the transaction that updated or deleted a category or tag,
+ * which changes how the user's tasks are rendered.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskMetadataChangedEvent {
+
+    private final Long userId;
+    // TaskCategory or TaskTag
+    private final Class<?> entityType;
+    private final Long entityId;
+}
@@ -0,0 +1,15 @@
+package com.todoapp.task.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published inside the transaction that created a category or tag. Existing tasks
+ * render the same, but cached category and tag lists no longer match.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskMetadataCreatedEvent {
+
+    private final Long userId;
+}
@@ -1,17 +1,29 @@
 package com.todoapp.task.repository;
 
 import com.todoapp.task.entity.TaskCategory;
+import com.todoapp.task.config.CacheConfig;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<TaskCategory, Long> {
 
+    // Query cache: invalidated locally by Hibernate on writes, on other instances by SecondLevelCacheSync
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.METADATA_QUERY_REGION)
+    })
     List<TaskCategory> findByUserIdOrderByNameAsc(Long userId);
+
     Optional<TaskCategory> findByIdAndUserId(Long id, Long userId);
+    List<TaskCategory> findByIdInAndUserId(Collection<Long> ids, Long userId);
     boolean existsByUserIdAndName(Long userId, String name);
     void deleteByIdAndUserId(Long id, Long userId);
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +15,14 @@ public interface CommentRepository extends JpaRepository<TaskComment, Long> {
 
     List<TaskComment> findByTaskIdOrderByCreatedAtDesc(Long taskId);
 
+    List<TaskComment> findByTaskIdInOrderByCreatedAtDesc(Collection<Long> taskIds);
+
     @Query("SELECT c FROM TaskComment c JOIN Task t ON c.taskId = t.id WHERE c.id = :commentId AND t.userId = :userId")
     Optional<TaskComment> findByIdAndTaskUserId(@Param("commentId") Long commentId, @Param("userId") Long userId);
 
+    @Query("SELECT c FROM TaskComment c JOIN Task t ON c.taskId = t.id WHERE t.userId = :userId")
+    List<TaskComment> findByTaskUserId(@Param("userId") Long userId);
+
     long countByTaskId(Long taskId);
     void deleteByTaskId(Long taskId);
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.todoapp.task.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Binds and reads LocalDateTime values of plain JDBC statements the way Hibernate does
+ * for entities, honouring hibernate.jdbc.time_zone, so rows handled outside Hibernate
+ * carry the same wall-clock time as those handled through it.
+ */
+@Component
+public class JdbcTimestampBinder {
+
+    // null when hibernate.jdbc.time_zone is unset: the driver then uses the JVM default
+    private final TimeZone jdbcTimeZone;
+
+    public JdbcTimestampBinder(@Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone) {
+        this.jdbcTimeZone = jdbcTimeZone.isBlank() ? null : TimeZone.getTimeZone(ZoneId.of(jdbcTimeZone));
+    }
+
+    public void bind(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else if (jdbcTimeZone == null) {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(value), Calendar.getInstance(jdbcTimeZone));
+        }
+    }
+
+    public LocalDateTime read(ResultSet rs, String column) throws SQLException {
+        Timestamp value = jdbcTimeZone == null
+                ? rs.getTimestamp(column)
+                : rs.getTimestamp(column, Calendar.getInstance(jdbcTimeZone));
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
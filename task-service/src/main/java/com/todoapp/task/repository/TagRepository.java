@@ -1,18 +1,29 @@
 package com.todoapp.task.repository;
 
 import com.todoapp.task.entity.TaskTag;
+import com.todoapp.task.config.CacheConfig;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TagRepository extends JpaRepository<TaskTag, Long> {
 
+    // Query cache: invalidated locally by Hibernate on writes, on other instances by SecondLevelCacheSync
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.METADATA_QUERY_REGION)
+    })
     List<TaskTag> findByUserIdOrderByNameAsc(Long userId);
+
     Optional<TaskTag> findByIdAndUserId(Long id, Long userId);
     boolean existsByUserIdAndName(Long userId, String name);
-    List<TaskTag> findByIdInAndUserId(List<Long> tagIds, Long userId);
+    List<TaskTag> findByIdInAndUserId(Collection<Long> tagIds, Long userId);
     void deleteByIdAndUserId(Long id, Long userId);
 }
\ No newline at end of file
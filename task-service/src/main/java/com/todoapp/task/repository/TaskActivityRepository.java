@@ -0,0 +1,13 @@
+package com.todoapp.task.repository;
+
+import com.todoapp.task.entity.TaskActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskActivityRepository extends JpaRepository<TaskActivity, Long> {
+
+    List<TaskActivity> findByTaskIdOrderByCreatedAtDesc(Long taskId);
+}
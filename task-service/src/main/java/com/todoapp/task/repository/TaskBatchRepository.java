@@ -0,0 +1,13 @@
+package com.todoapp.task.repository;
+
+import com.todoapp.task.entity.Task;
+
+import java.util.List;
+
+public interface TaskBatchRepository {
+
+    /**
+     * Inserts the tasks with one JDBC batch and sets their generated ids.
+     */
+    void insertAll(List<Task> tasks);
+}
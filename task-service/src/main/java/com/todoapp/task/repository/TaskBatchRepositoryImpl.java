@@ -0,0 +1,76 @@
+package com.todoapp.task.repository;
+
+import com.todoapp.task.entity.Task;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task inserts outside Hibernate: IDENTITY ids make Hibernate insert one row per
+ * statement, while a JDBC batch (rewritten into multi-row INSERTs by the driver)
+ * still returns every generated key.
+ */
+public class TaskBatchRepositoryImpl implements TaskBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO tasks " +
+            "(title, description, completed, user_id, category_id, due_date, priority, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTimestampBinder timestampBinder;
+
+    public TaskBatchRepositoryImpl(JdbcTemplate jdbcTemplate, JdbcTimestampBinder timestampBinder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.timestampBinder = timestampBinder;
+    }
+
+    @Override
+    public void insertAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Task task = tasks.get(i);
+                        ps.setString(1, task.getTitle());
+                        ps.setString(2, task.getDescription());
+                        ps.setBoolean(3, task.getCompleted());
+                        ps.setLong(4, task.getUserId());
+                        if (task.getCategoryId() != null) {
+                            ps.setLong(5, task.getCategoryId());
+                        } else {
+                            ps.setNull(5, Types.BIGINT);
+                        }
+                        timestampBinder.bind(ps, 6, task.getDueDate());
+                        ps.setString(7, task.getPriority().name());
+                        timestampBinder.bind(ps, 8, task.getCreatedAt());
+                        timestampBinder.bind(ps, 9, task.getUpdatedAt());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return tasks.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < tasks.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            tasks.get(i).setId(id.longValue());
+        }
+    }
+}
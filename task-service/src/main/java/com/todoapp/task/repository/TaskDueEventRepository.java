@@ -0,0 +1,30 @@
+package com.todoapp.task.repository;
+
+import com.todoapp.task.entity.TaskDueEvent;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TaskDueEventRepository extends JpaRepository<TaskDueEvent, Long> {
+
+    Page<TaskDueEvent> findByUserIdOrderByFiredAtDesc(Long userId, Pageable pageable);
+
+    // Returns 0 when the transition was already recorded
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO task_due_events (task_id, user_id, event_type, due_date, fired_at) " +
+            "VALUES (:taskId, :userId, :eventType, :dueDate, :firedAt)", nativeQuery = true)
+    int insertIfAbsent(@Param("taskId") Long taskId,
+                       @Param("userId") Long userId,
+                       @Param("eventType") String eventType,
+                       @Param("dueDate") LocalDateTime dueDate,
+                       @Param("firedAt") LocalDateTime firedAt);
+}
@@ -2,24 +2,55 @@ package com.todoapp.task.repository;
 
 import com.todoapp.task.entity.Task;
 import com.todoapp.task.enums.Priority;
+import com.todoapp.task.search.TaskSearchHit;
 import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskBatchRepository {
 
     // Basic queries
     List<Task> findByUserIdOrderByCreatedAtDesc(Long userId);
     Page<Task> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
     Optional<Task> findByIdAndUserId(Long id, Long userId);
+    List<Task> findByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    // Keyset pagination, newest first; ties on createdAt are broken by id
+    @Query("SELECT t FROM Task t WHERE t.userId = :userId ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findPageStart(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT t FROM Task t WHERE t.userId = :userId " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findPageAfter(@Param("userId") Long userId,
+                               @Param("createdAt") LocalDateTime createdAt,
+                               @Param("id") Long id,
+                               Limit limit);
+
+    @Query("SELECT t FROM Task t WHERE t.userId = :userId AND t.completed = :completed " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findPageStart(@Param("userId") Long userId, @Param("completed") Boolean completed, Limit limit);
+
+    @Query("SELECT t FROM Task t WHERE t.userId = :userId AND t.completed = :completed " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findPageAfter(@Param("userId") Long userId,
+                               @Param("completed") Boolean completed,
+                               @Param("createdAt") LocalDateTime createdAt,
+                               @Param("id") Long id,
+                               Limit limit);
 
     // Filter by completion status
     List<Task> findByUserIdAndCompleted(Long userId, Boolean completed);
@@ -35,19 +66,55 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t FROM Task t WHERE t.userId = :userId AND t.dueDate < :now AND t.completed = false")
     List<Task> findOverdueTasks(@Param("userId") Long userId, @Param("now") LocalDateTime now);
 
-    @Query("SELECT t FROM Task t WHERE t.userId = :userId AND DATE(t.dueDate) = CURRENT_DATE AND t.completed = false")
-    List<Task> findTasksDueToday(@Param("userId") Long userId);
+    @Query("SELECT t FROM Task t WHERE t.userId = :userId AND t.completed = false " +
+            "AND t.dueDate >= :startOfDay AND t.dueDate < :endOfDay")
+    List<Task> findTasksDueToday(@Param("userId") Long userId,
+                                 @Param("startOfDay") LocalDateTime startOfDay,
+                                 @Param("endOfDay") LocalDateTime endOfDay);
+
+    // Pending tasks across all users whose due date falls in [from, to)
+    @Query("SELECT t FROM Task t WHERE t.completed = false AND t.dueDate >= :from AND t.dueDate < :to")
+    List<Task> findPendingDueBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
     // Search
-    @Query("SELECT t FROM Task t WHERE t.userId = :userId AND (t.title LIKE %:keyword% OR t.description LIKE %:keyword%)")
-    List<Task> searchTasks(@Param("userId") Long userId, @Param("keyword") String keyword);
+    @Query("SELECT DISTINCT t.userId FROM Task t")
+    List<Long> findDistinctUserIds();
+
+    @Query("SELECT t.id FROM Task t WHERE t.userId = :userId AND (t.title LIKE %:keyword% OR t.description LIKE %:keyword%) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    Page<Long> searchTaskIds(@Param("userId") Long userId, @Param("keyword") String keyword, Pageable pageable);
+
+    // Requires the ngram FULLTEXT index ft_title_description on tasks(title, description)
+    @Query(value = "SELECT t.id AS id, MATCH(t.title, t.description) AGAINST (:query IN BOOLEAN MODE) AS score " +
+            "FROM tasks t WHERE t.user_id = :userId AND MATCH(t.title, t.description) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY score DESC, t.id DESC",
+            countQuery = "SELECT COUNT(*) FROM tasks t WHERE t.user_id = :userId " +
+                    "AND MATCH(t.title, t.description) AGAINST (:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<TaskSearchHit> searchFullText(@Param("userId") Long userId, @Param("query") String query, Pageable pageable);
 
     // Statistics
+    @Query("SELECT t.completed, t.priority, COUNT(t) FROM Task t WHERE t.userId = :userId GROUP BY t.completed, t.priority")
+    List<Object[]> countGroupedByCompletedAndPriority(@Param("userId") Long userId);
+
+    @Query("SELECT SUM(CASE WHEN t.dueDate < :now THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.dueDate >= :startOfDay THEN 1 ELSE 0 END) " +
+            "FROM Task t WHERE t.userId = :userId AND t.completed = false AND t.dueDate < :endOfDay")
+    List<Object[]> countOverdueAndDueToday(@Param("userId") Long userId,
+                                           @Param("now") LocalDateTime now,
+                                           @Param("startOfDay") LocalDateTime startOfDay,
+                                           @Param("endOfDay") LocalDateTime endOfDay);
+
     long countByUserId(Long userId);
     long countByUserIdAndCompleted(Long userId, Boolean completed);
     long countByUserIdAndPriority(Long userId, Priority priority);
 
     // Delete
     void deleteByIdAndUserId(Long id, Long userId);
+
+    // Comments, tag links and activity rows go with the task through ON DELETE CASCADE
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids AND t.userId = :userId")
+    int deleteByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
 }
 
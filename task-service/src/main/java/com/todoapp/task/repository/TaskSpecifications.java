@@ -0,0 +1,120 @@
+package com.todoapp.task.repository;
+
+import com.todoapp.task.dto.request.TaskFilterRequest;
+import com.todoapp.task.entity.Task;
+import com.todoapp.task.entity.TaskTagRelationship;
+import com.todoapp.task.enums.Priority;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Builds the dynamic task filter query. The user id is always the leading equality so
+ * MySQL can use the (user_id, ...) composite indexes; tag filters are correlated
+ * subqueries on the task_tag_relationships primary key, so no join multiplies rows.
+ */
+public class TaskSpecifications {
+
+    private static final Set<String> SORT_FIELDS = Set.of("createdAt", "updatedAt", "dueDate", "priority", "title");
+
+    public static Specification<Task> filter(Long userId, TaskFilterRequest filter) {
+        Set<Long> tagIds = filter.getTagIds() == null ? new LinkedHashSet<>() : new LinkedHashSet<>(filter.getTagIds());
+        boolean matchAllTags = parseTagMatch(filter.getTagMatch());
+        String sortBy = filter.getSortBy() == null ? "createdAt" : filter.getSortBy();
+        if (!SORT_FIELDS.contains(sortBy)) {
+            throw new IllegalArgumentException("Invalid sort field: " + sortBy);
+        }
+        boolean ascending = parseAscending(filter.getDirection());
+
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("userId"), userId));
+
+            if (filter.getCompleted() != null) {
+                predicates.add(cb.equal(root.get("completed"), filter.getCompleted()));
+            }
+            if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+                predicates.add(root.get("priority").in(filter.getPriorities()));
+            }
+            if (filter.getCategoryIds() != null && !filter.getCategoryIds().isEmpty()) {
+                predicates.add(root.get("categoryId").in(filter.getCategoryIds()));
+            }
+            if (filter.getDueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dueDate"), filter.getDueFrom()));
+            }
+            if (filter.getDueTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dueDate"), filter.getDueTo()));
+            }
+
+            if (!tagIds.isEmpty()) {
+                Subquery<Long> tagged = query.subquery(Long.class);
+                Root<TaskTagRelationship> relationship = tagged.from(TaskTagRelationship.class);
+                tagged.where(
+                        cb.equal(relationship.get("taskId"), root.get("id")),
+                        relationship.get("tagId").in(tagIds));
+
+                if (matchAllTags) {
+                    tagged.select(cb.count(relationship));
+                    predicates.add(cb.equal(tagged, (long) tagIds.size()));
+                } else {
+                    tagged.select(relationship.get("taskId"));
+                    predicates.add(cb.exists(tagged));
+                }
+            }
+
+            // Count queries share this specification but must not be ordered
+            if (!Long.class.equals(query.getResultType())) {
+                query.orderBy(orderBy(root, cb, sortBy, ascending));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static List<Order> orderBy(Root<Task> root, CriteriaBuilder cb, String sortBy, boolean ascending) {
+        Expression<?> sortExpression;
+        if ("priority".equals(sortBy)) {
+            // Priority is stored as a string; sort by rank rather than alphabetically
+            sortExpression = cb.<Integer>selectCase()
+                    .when(cb.equal(root.get("priority"), Priority.HIGH), 3)
+                    .when(cb.equal(root.get("priority"), Priority.MEDIUM), 2)
+                    .otherwise(1);
+        } else {
+            sortExpression = root.get(sortBy);
+        }
+
+        List<Order> orders = new ArrayList<>();
+        orders.add(ascending ? cb.asc(sortExpression) : cb.desc(sortExpression));
+        // Stable order across pages
+        orders.add(ascending ? cb.asc(root.get("id")) : cb.desc(root.get("id")));
+        return orders;
+    }
+
+    private static boolean parseTagMatch(String tagMatch) {
+        if (tagMatch == null || "any".equalsIgnoreCase(tagMatch)) {
+            return false;
+        }
+        if ("all".equalsIgnoreCase(tagMatch)) {
+            return true;
+        }
+        throw new IllegalArgumentException("Invalid tag match mode: " + tagMatch);
+    }
+
+    private static boolean parseAscending(String direction) {
+        String value = direction == null ? "desc" : direction.toLowerCase(Locale.ROOT);
+        if (!"asc".equals(value) && !"desc".equals(value)) {
+            throw new IllegalArgumentException("Invalid sort direction: " + direction);
+        }
+        return "asc".equals(value);
+    }
+}
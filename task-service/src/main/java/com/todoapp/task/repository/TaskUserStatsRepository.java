@@ -0,0 +1,38 @@
+package com.todoapp.task.repository;
+
+import com.todoapp.task.entity.TaskUserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskUserStatsRepository extends JpaRepository<TaskUserStats, Long> {
+
+    @Modifying
+    @Query("UPDATE TaskUserStats s SET s.totalTasks = s.totalTasks + :total, " +
+            "s.completedTasks = s.completedTasks + :completed, " +
+            "s.highPriorityTasks = s.highPriorityTasks + :high, " +
+            "s.mediumPriorityTasks = s.mediumPriorityTasks + :medium, " +
+            "s.lowPriorityTasks = s.lowPriorityTasks + :low " +
+            "WHERE s.userId = :userId")
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("total") long total,
+                   @Param("completed") long completed,
+                   @Param("high") long high,
+                   @Param("medium") long medium,
+                   @Param("low") long low);
+
+    // Returns 0 when a concurrent seed for the same user got there first and its row is kept
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO task_user_stats " +
+            "(user_id, total_tasks, completed_tasks, high_priority_tasks, medium_priority_tasks, low_priority_tasks) " +
+            "VALUES (:userId, :total, :completed, :high, :medium, :low)", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                        @Param("total") long total,
+                        @Param("completed") long completed,
+                        @Param("high") long high,
+                        @Param("medium") long medium,
+                        @Param("low") long low);
+}
@@ -0,0 +1,247 @@
+package com.todoapp.task.search;
+
+import com.todoapp.task.repository.TaskRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Searches the ngram FULLTEXT index on tasks(title, description) in boolean mode.
+ * Plain keywords require every word. Boolean operators are honoured only where they
+ * form valid syntax: + - ~ < > at the start of a word, phrase or group, * right after
+ * a word, balanced quotes and parentheses. Any other punctuation separates words, and
+ * words joined by it ("follow-up", "e-mail") are searched as a phrase.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "fulltext")
+public class FullTextSearchEngine implements TaskSearchEngine {
+
+    private final TaskRepository taskRepository;
+
+    public FullTextSearchEngine(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public Page<Long> search(Long userId, String keyword, Pageable pageable) {
+        String query = toBooleanQuery(keyword);
+        if (query.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, 0);
+        }
+        try {
+            return taskRepository.searchFullText(userId, query, pageable).map(TaskSearchHit::getId);
+        } catch (InvalidDataAccessResourceUsageException e) {
+            // InnoDB rejected the boolean expression; a client error, not a server one
+            throw new IllegalArgumentException("Invalid search query", e);
+        }
+    }
+
+    static String toBooleanQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return "";
+        }
+        return new QueryParser(keyword.trim()).parse();
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || Character.getType(c) == Character.NON_SPACING_MARK;
+    }
+
+    private static boolean isPrefixOperator(char c) {
+        return c == '+' || c == '-' || c == '~' || c == '<' || c == '>';
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && isWordChar(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Rebuilds the input as a well-formed boolean-mode expression. Quotes and parentheses
+     * are paired up front; unpaired ones, like misplaced operators, become separators.
+     */
+    private static final class QueryParser {
+
+        private static final int UNPAIRED = -1;
+        private static final int CLOSER = Integer.MAX_VALUE;
+
+        private final String input;
+        // Partner index for a paired opening quote or parenthesis, CLOSER for its partner
+        private final int[] closing;
+        private final List<String> tokens = new ArrayList<>();
+        private boolean usesOperators;
+
+        QueryParser(String input) {
+            this.input = input;
+            this.closing = new int[input.length()];
+            Arrays.fill(closing, UNPAIRED);
+            pairDelimiters();
+        }
+
+        String parse() {
+            int i = 0;
+            char pendingOperator = 0;
+            while (i < input.length()) {
+                char c = input.charAt(i);
+                if (isPrefixOperator(c) && atClauseStart(i) && startsOperand(i + 1)) {
+                    pendingOperator = c;
+                    usesOperators = true;
+                    i++;
+                } else if (c == '"' && opens(i)) {
+                    List<String> phrase = words(input.substring(i + 1, closing[i]));
+                    if (!phrase.isEmpty()) {
+                        add(pendingOperator, '"' + String.join(" ", phrase) + '"');
+                        usesOperators = true;
+                    }
+                    pendingOperator = 0;
+                    i = closing[i] + 1;
+                } else if (c == '(' && opens(i)) {
+                    if (words(input.substring(i + 1, closing[i])).isEmpty()) {
+                        i = closing[i] + 1;
+                    } else {
+                        add(pendingOperator, "(");
+                        usesOperators = true;
+                        i++;
+                    }
+                    pendingOperator = 0;
+                } else if (c == ')' && closing[i] == CLOSER) {
+                    tokens.add(")");
+                    i++;
+                } else if (isWordChar(c)) {
+                    i = readWord(i, pendingOperator);
+                    pendingOperator = 0;
+                } else {
+                    i++;
+                }
+            }
+            return render();
+        }
+
+        // A run of words joined by punctuation other than operators in operator position
+        private int readWord(int start, char operator) {
+            List<String> parts = new ArrayList<>();
+            int i = start;
+            while (true) {
+                int end = i;
+                while (end < input.length() && isWordChar(input.charAt(end))) {
+                    end++;
+                }
+                parts.add(input.substring(i, end));
+                int next = end;
+                while (next < input.length() && isConnector(next)) {
+                    next++;
+                }
+                if (next > end && next < input.length() && isWordChar(input.charAt(next))) {
+                    i = next;
+                } else {
+                    i = end;
+                    break;
+                }
+            }
+
+            if (parts.size() > 1) {
+                add(operator, '"' + String.join(" ", parts) + '"');
+            } else if (i < input.length() && input.charAt(i) == '*') {
+                add(operator, parts.get(0) + '*');
+                usesOperators = true;
+                i++;
+            } else {
+                add(operator, parts.get(0));
+            }
+            return i;
+        }
+
+        private boolean isConnector(int index) {
+            char c = input.charAt(index);
+            return !Character.isWhitespace(c) && !isWordChar(c) && c != '*' && closing[index] == UNPAIRED;
+        }
+
+        private boolean atClauseStart(int index) {
+            if (index == 0) {
+                return true;
+            }
+            char previous = input.charAt(index - 1);
+            return Character.isWhitespace(previous) || (previous == '(' && opens(index - 1));
+        }
+
+        private boolean startsOperand(int index) {
+            if (index >= input.length()) {
+                return false;
+            }
+            char c = input.charAt(index);
+            return isWordChar(c) || ((c == '"' || c == '(') && opens(index));
+        }
+
+        private boolean opens(int index) {
+            return closing[index] != UNPAIRED && closing[index] != CLOSER;
+        }
+
+        private void add(char operator, String token) {
+            tokens.add(operator != 0 ? operator + token : token);
+        }
+
+        private String render() {
+            StringBuilder query = new StringBuilder();
+            for (String token : tokens) {
+                boolean group = token.endsWith("(") || token.equals(")");
+                if (query.length() > 0 && !token.equals(")") && query.charAt(query.length() - 1) != '(') {
+                    query.append(' ');
+                }
+                // Without operators every word is required, as in a plain keyword search
+                if (!usesOperators && !group) {
+                    query.append('+');
+                }
+                query.append(token);
+            }
+            return query.toString();
+        }
+
+        private void pairDelimiters() {
+            int openQuote = -1;
+            for (int i = 0; i < input.length(); i++) {
+                if (input.charAt(i) == '"') {
+                    if (openQuote < 0) {
+                        openQuote = i;
+                    } else {
+                        closing[openQuote] = i;
+                        closing[i] = CLOSER;
+                        openQuote = -1;
+                    }
+                }
+            }
+
+            Deque<Integer> openParens = new ArrayDeque<>();
+            for (int i = 0; i < input.length(); i++) {
+                char c = input.charAt(i);
+                if (c == '"' && opens(i)) {
+                    i = closing[i];
+                } else if (c == '(') {
+                    openParens.push(i);
+                } else if (c == ')' && !openParens.isEmpty()) {
+                    int open = openParens.pop();
+                    closing[open] = i;
+                    closing[i] = CLOSER;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.todoapp.task.search;
+
+import com.todoapp.task.repository.TaskRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Substring match on title and description; needs no index but scans all of the user's tasks.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "like")
+public class LikeSearchEngine implements TaskSearchEngine {
+
+    private final TaskRepository taskRepository;
+
+    public LikeSearchEngine(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public Page<Long> search(Long userId, String keyword, Pageable pageable) {
+        return taskRepository.searchTaskIds(userId, keyword, pageable);
+    }
+}
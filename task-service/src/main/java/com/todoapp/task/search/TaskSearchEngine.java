@@ -0,0 +1,16 @@
+package com.todoapp.task.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Finds a user's tasks matching a keyword. The implementation is chosen per
+ * deployment with search.engine (index, fulltext or like).
+ */
+public interface TaskSearchEngine {
+
+    /**
+     * Returns one page of matching task ids, best match first.
+     */
+    Page<Long> search(Long userId, String keyword, Pageable pageable);
+}
@@ -0,0 +1,11 @@
+package com.todoapp.task.search;
+
+/**
+ * Row of a FULLTEXT search: task id and its MATCH ... AGAINST relevance.
+ */
+public interface TaskSearchHit {
+
+    Long getId();
+
+    Double getScore();
+}
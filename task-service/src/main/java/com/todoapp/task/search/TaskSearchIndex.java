@@ -0,0 +1,196 @@
+package com.todoapp.task.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.todoapp.task.entity.Task;
+import com.todoapp.task.entity.TaskComment;
+import com.todoapp.task.event.CommentChangedEvent;
+import com.todoapp.task.event.TaskBatchChangedEvent;
+import com.todoapp.task.event.TaskChangedEvent;
+import com.todoapp.task.repository.CommentRepository;
+import com.todoapp.task.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-user in-memory search index over task titles, descriptions and comments.
+ * A user's index is built from the database on first search (or at startup when
+ * search.index.warm-on-startup is set) and kept current from task and comment
+ * change events once their transaction commits.
+ *
+ * Changes are applied locally and broadcast on a pub/sub channel so other instances
+ * re-read the task too. Indexes are held for a bounded number of users, dropped when
+ * idle and rebuilt after a maximum age, so memory stays bounded and an index that
+ * missed a message is corrected by the next rebuild.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "index", matchIfMissing = true)
+public class TaskSearchIndex implements TaskSearchEngine, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    public static final String CHANNEL = "task-search:reindex";
+
+    // Tells this instance's own broadcasts apart from its peers'
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Cache<Long, UserSearchIndex> indexes;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${search.index.warm-on-startup:false}")
+    private boolean warmOnStartup;
+
+    public TaskSearchIndex(TaskRepository taskRepository,
+                           CommentRepository commentRepository,
+                           StringRedisTemplate redisTemplate,
+                           @Value("${search.index.maximum-users:10000}") long maximumUsers,
+                           @Value("${search.index.idle-timeout:PT30M}") Duration idleTimeout,
+                           @Value("${search.index.max-age:PT1H}") Duration maxAge) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.redisTemplate = redisTemplate;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maximumUsers)
+                .expireAfterAccess(idleTimeout)
+                .expireAfterWrite(maxAge)
+                .build();
+    }
+
+    @Override
+    public Page<Long> search(Long userId, String keyword, Pageable pageable) {
+        List<String> terms = SearchTokenizer.tokenize(keyword);
+        List<Long> hits = terms.isEmpty() ? new ArrayList<>() : loadedIndex(userId).search(terms);
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        return new PageImpl<>(hits.subList(from, to), pageable, hits.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmOnStartup) {
+            return;
+        }
+
+        List<Long> userIds = taskRepository.findDistinctUserIds();
+        for (Long userId : userIds) {
+            loadedIndex(userId);
+        }
+        logger.info("Search index built for {} users", userIds.size());
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        reindexTasks(event.getUserId(), List.of(event.getTaskId()));
+        broadcast(event.getUserId(), List.of(event.getTaskId()));
+    }
+
+    @TransactionalEventListener
+    public void onTaskBatchChanged(TaskBatchChangedEvent event) {
+        reindexTasks(event.getUserId(), event.getTaskIds());
+        broadcast(event.getUserId(), event.getTaskIds());
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        reindexTasks(event.getUserId(), List.of(event.getTaskId()));
+        broadcast(event.getUserId(), List.of(event.getTaskId()));
+    }
+
+    /**
+     * Receives changes committed on other instances: instanceId:userId:taskId[,taskId...]
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        try {
+            if (!instanceId.equals(parts[0])) {
+                List<Long> taskIds = Arrays.stream(parts[2].split(","))
+                        .map(Long::valueOf)
+                        .collect(Collectors.toList());
+                reindexTasks(Long.valueOf(parts[1]), taskIds);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring search reindex message: {}", e.getMessage());
+        }
+    }
+
+    private void broadcast(Long userId, Collection<Long> taskIds) {
+        String ids = taskIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId + ":" + userId + ":" + ids);
+        } catch (RuntimeException e) {
+            // Peers pick the change up when their index for the user is rebuilt
+            logger.warn("Failed to publish search reindex for tasks {}: {}", ids, e.getMessage());
+        }
+    }
+
+    private void reindexTasks(Long userId, Collection<Long> taskIds) {
+        UserSearchIndex index = indexes.getIfPresent(userId);
+        if (index == null) {
+            // Not loaded yet; the first search reads current data
+            return;
+        }
+
+        // Read outside the lock, one query for the tasks and one for their comments;
+        // the ticket keeps an older read from overwriting a newer one
+        long ticket = index.nextTicket();
+        Map<Long, Task> tasks = taskRepository.findByIdInAndUserId(taskIds, userId).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Map<Long, List<String>> commentsByTask = tasks.isEmpty() ? Map.of()
+                : commentRepository.findByTaskIdInOrderByCreatedAtDesc(tasks.keySet()).stream()
+                        .collect(Collectors.groupingBy(TaskComment::getTaskId,
+                                Collectors.mapping(TaskComment::getComment, Collectors.toList())));
+
+        for (Long taskId : taskIds) {
+            Task task = tasks.get(taskId);
+            index.updateIfLoaded(taskId, ticket, loaded -> {
+                if (task != null) {
+                    loaded.put(taskId, task.getTitle(), task.getDescription(),
+                            commentsByTask.getOrDefault(taskId, List.of()));
+                } else {
+                    loaded.remove(taskId);
+                }
+            });
+        }
+    }
+
+    private UserSearchIndex loadedIndex(Long userId) {
+        // Registered before loading so change events arriving during the load are applied after it
+        UserSearchIndex index = indexes.get(userId, id -> new UserSearchIndex());
+        index.loadIfNeeded(empty -> {
+            Map<Long, List<String>> commentsByTask = commentRepository.findByTaskUserId(userId).stream()
+                    .collect(Collectors.groupingBy(TaskComment::getTaskId,
+                            Collectors.mapping(TaskComment::getComment, Collectors.toList())));
+            for (Task task : taskRepository.findByUserIdOrderByCreatedAtDesc(userId)) {
+                empty.put(task.getId(), task.getTitle(), task.getDescription(),
+                        commentsByTask.getOrDefault(task.getId(), new ArrayList<>()));
+            }
+        });
+        return index;
+    }
+}
@@ -0,0 +1,267 @@
+package com.todoapp.task.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Inverted index over one user's tasks. Each task is a single document made of its
+ * title, description and comments; postings keep token positions so adjacent query
+ * terms can be rewarded. Guarded by a read/write lock: searches share the read lock,
+ * loads and updates take the write lock.
+ *
+ * Updates are read from the database before taking the lock. Each read takes a ticket
+ * first; a read that starts later sees at least as recent a commit, so an update is
+ * applied only when its ticket is newer than the last one applied to the task (or the
+ * load), and concurrent updates to one task cannot leave an older version in place.
+ */
+class UserSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float BODY_WEIGHT = 1.0f;
+    // Position gap between fields so a phrase never spans two of them
+    private static final int FIELD_GAP = 100;
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+    private static final double ADJACENCY_BONUS = 0.5;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Posting>> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> termsByTask = new HashMap<>();
+    private final AtomicLong tickets = new AtomicLong();
+    private final Map<Long, Long> appliedTickets = new HashMap<>();
+    private long loadTicket;
+    private volatile boolean loaded;
+
+    /**
+     * Taken before reading a task for {@link #updateIfLoaded}.
+     */
+    long nextTicket() {
+        return tickets.incrementAndGet();
+    }
+
+    /**
+     * Runs the loader once; concurrent callers wait for it to finish.
+     */
+    void loadIfNeeded(Consumer<UserSearchIndex> loader) {
+        if (loaded) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                try {
+                    loadTicket = nextTicket();
+                    loader.accept(this);
+                    loaded = true;
+                } catch (RuntimeException e) {
+                    postings.clear();
+                    termsByTask.clear();
+                    appliedTickets.clear();
+                    throw e;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a change to a task read under the given ticket, only to a loaded index and
+     * only if nothing read later has been applied; an unloaded one reads the change from
+     * the DB when it loads.
+     */
+    void updateIfLoaded(Long taskId, long ticket, Consumer<UserSearchIndex> updater) {
+        lock.writeLock().lock();
+        try {
+            if (loaded && ticket > loadTicket && ticket > appliedTickets.getOrDefault(taskId, 0L)) {
+                updater.accept(this);
+                appliedTickets.put(taskId, ticket);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Callers must hold the write lock (inside loadIfNeeded/updateIfLoaded)
+    void put(Long taskId, String title, String description, List<String> comments) {
+        remove(taskId);
+
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        int position = addField(builders, title, TITLE_WEIGHT, 0);
+        position = addField(builders, description, BODY_WEIGHT, position + FIELD_GAP);
+        for (String comment : comments) {
+            position = addField(builders, comment, BODY_WEIGHT, position + FIELD_GAP);
+        }
+
+        builders.forEach((term, builder) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(taskId, builder.build()));
+        termsByTask.put(taskId, new HashSet<>(builders.keySet()));
+    }
+
+    // Callers must hold the write lock (inside loadIfNeeded/updateIfLoaded)
+    void remove(Long taskId) {
+        Set<String> terms = termsByTask.remove(taskId);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            Map<Long, Posting> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(taskId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of tasks containing every query term, best match first. The last
+     * term also matches as a prefix so results follow the user while typing.
+     */
+    List<Long> search(List<String> queryTerms) {
+        lock.readLock().lock();
+        try {
+            int documentCount = termsByTask.size();
+            List<Map<Long, Posting>> matches = new ArrayList<>(queryTerms.size());
+            for (int i = 0; i < queryTerms.size(); i++) {
+                boolean prefix = i == queryTerms.size() - 1;
+                Map<Long, Posting> termMatches = prefix ? prefixMatches(queryTerms.get(i)) : postings.get(queryTerms.get(i));
+                if (termMatches == null || termMatches.isEmpty()) {
+                    return new ArrayList<>();
+                }
+                matches.add(termMatches);
+            }
+
+            double[] idf = new double[matches.size()];
+            for (int i = 0; i < matches.size(); i++) {
+                double df = matches.get(i).size();
+                idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+
+            // Drive the intersection from the rarest term
+            Map<Long, Posting> rarest = matches.stream().min(Comparator.comparingInt(Map::size)).orElseThrow();
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long taskId : rarest.keySet()) {
+                Posting[] taskPostings = new Posting[matches.size()];
+                boolean all = true;
+                for (int i = 0; i < matches.size() && all; i++) {
+                    taskPostings[i] = matches.get(i).get(taskId);
+                    all = taskPostings[i] != null;
+                }
+                if (all) {
+                    scores.put(taskId, score(taskPostings, idf));
+                }
+            }
+
+            List<Long> ranked = new ArrayList<>(scores.keySet());
+            ranked.sort(Comparator.<Long>comparingDouble(scores::get).reversed()
+                    .thenComparing(Comparator.reverseOrder()));
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Posting> prefixMatches(String prefix) {
+        Map<Long, Posting> merged = new HashMap<>();
+        int expansions = 0;
+        for (Map<Long, Posting> termPostings : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            termPostings.forEach((taskId, posting) -> merged.merge(taskId, posting, Posting::merge));
+        }
+        return merged;
+    }
+
+    private static double score(Posting[] taskPostings, double[] idf) {
+        double score = 0;
+        for (int i = 0; i < taskPostings.length; i++) {
+            score += idf[i] * taskPostings[i].weight;
+        }
+
+        int adjacentPairs = 0;
+        for (int i = 1; i < taskPostings.length; i++) {
+            if (hasAdjacent(taskPostings[i - 1].positions, taskPostings[i].positions)) {
+                adjacentPairs++;
+            }
+        }
+        return score * (1 + ADJACENCY_BONUS * adjacentPairs);
+    }
+
+    // True when some position in next directly follows a position in previous (both sorted)
+    private static boolean hasAdjacent(int[] previous, int[] next) {
+        int i = 0;
+        int j = 0;
+        while (i < previous.length && j < next.length) {
+            int expected = previous[i] + 1;
+            if (next[j] == expected) {
+                return true;
+            }
+            if (next[j] < expected) {
+                j++;
+            } else {
+                i++;
+            }
+        }
+        return false;
+    }
+
+    private static int addField(Map<String, PostingBuilder> builders, String text, float weight, int position) {
+        for (String token : SearchTokenizer.tokenize(text)) {
+            builders.computeIfAbsent(token, key -> new PostingBuilder()).add(position, weight);
+            position++;
+        }
+        return position;
+    }
+
+    private static final class Posting {
+
+        private final float weight;
+        private final int[] positions;
+
+        private Posting(float weight, int[] positions) {
+            this.weight = weight;
+            this.positions = positions;
+        }
+
+        private static Posting merge(Posting a, Posting b) {
+            int[] positions = Arrays.copyOf(a.positions, a.positions.length + b.positions.length);
+            System.arraycopy(b.positions, 0, positions, a.positions.length, b.positions.length);
+            Arrays.sort(positions);
+            return new Posting(a.weight + b.weight, positions);
+        }
+    }
+
+    private static final class PostingBuilder {
+
+        private float weight;
+        private int[] positions = new int[4];
+        private int size;
+
+        private void add(int position, float fieldWeight) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+            weight += fieldWeight;
+        }
+
+        private Posting build() {
+            return new Posting(weight, Arrays.copyOf(positions, size));
+        }
+    }
+}
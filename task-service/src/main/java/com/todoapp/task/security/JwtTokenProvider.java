@@ -1,39 +1,73 @@
 package com.todoapp.task.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.todoapp.task.config.JwtConfig;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final JwtConfig jwtConfig;
     private final SecretKey signingKey;
+    private final JwtParser parser;
+    // SHA-256 of the token -> principal, each entry expiring with its token
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+    private final RevocationEpochs revocationEpochs;
 
-    public JwtTokenProvider(JwtConfig jwtConfig) {
+    public JwtTokenProvider(JwtConfig jwtConfig, MeterRegistry meterRegistry, RevocationEpochs revocationEpochs) {
         this.jwtConfig = jwtConfig;
+        this.revocationEpochs = revocationEpochs;
         // Tạo signingKey từ secret (base64)
         this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtConfig.getSecret()));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtConfig.getVerifiedCacheSize())
+                .expireAfter(Expiry.creating((ByteBuffer digest, VerifiedToken verified) ->
+                        Duration.between(Instant.now(), verified.expiresAt())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt-principals");
     }
 
     /**
      * Generate Access Token
      */
     public String generateAccessToken(Long userId, String username, List<String> roles) {
+        Date now = new Date();
         return Jwts.builder()
                 .subject(username)
                 .claim("userId", userId)
                 .claim("roles", roles)
-                .issuedAt(new Date())
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                .issuedAt(now)
+                .claim(RevocationEpochs.ISSUED_AT_MS_CLAIM, now.getTime())
                 .expiration(new Date(System.currentTimeMillis() + jwtConfig.getAccessTokenExpiration()))
                 .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
@@ -43,24 +77,84 @@ public class JwtTokenProvider {
      * Generate Refresh Token
      */
     public String generateRefreshToken(Long userId, String username) {
+        Date now = new Date();
         return Jwts.builder()
                 .subject(username)
                 .claim("userId", userId)
-                .issuedAt(new Date())
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .issuedAt(now)
+                .claim(RevocationEpochs.ISSUED_AT_MS_CLAIM, now.getTime())
                 .expiration(new Date(System.currentTimeMillis() + jwtConfig.getRefreshTokenExpiration()))
                 .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies the token once and builds its principal; a token seen before is served
+     * from memory without any signature check or JSON parsing. Returns null when the
+     * token is invalid, expired, not an access token or revoked by its user's revocation epoch.
+     */
+    public UserPrincipal authenticate(String token) {
+        ByteBuffer digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            // The cache evicts lazily, so an entry may outlive its token briefly
+            return cached.expiresAt().isAfter(Instant.now()) && !isRevoked(cached) ? cached.principal() : null;
+        }
+
+        Claims claims;
+        try {
+            claims = getClaimsFromToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (!isAccessToken(claims)) {
+            return null;
+        }
+
+        UserPrincipal principal = toPrincipal(claims);
+        if (principal == null) {
+            return null;
+        }
+        VerifiedToken verified = new VerifiedToken(principal, issuedAt(claims),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+        if (isRevoked(verified)) {
+            return null;
+        }
+        if (verified.expiresAt() != null) {
+            verifiedTokens.put(digest, verified);
+        }
+        return principal;
+    }
+
+    /**
+     * Issue time from the millisecond iat_ms claim, falling back to iat for tokens minted without it
+     */
+    private static Instant issuedAt(Claims claims) {
+        Long issuedAtMs = claims.get(RevocationEpochs.ISSUED_AT_MS_CLAIM, Long.class);
+        if (issuedAtMs != null) {
+            return Instant.ofEpochMilli(issuedAtMs);
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+    }
+
+    /**
+     * Refresh tokens must not work as bearer tokens; tokens minted without a type claim are treated as access tokens
+     */
+    private static boolean isAccessToken(Claims claims) {
+        Object type = claims.get(TOKEN_TYPE_CLAIM);
+        return type == null || ACCESS_TOKEN_TYPE.equalsIgnoreCase(type.toString());
+    }
+
+    private boolean isRevoked(VerifiedToken verified) {
+        return revocationEpochs.isRevoked(verified.principal().getId(), verified.issuedAt());
+    }
+
     /**
      * Parse Claims
      */
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -76,16 +170,15 @@ public class JwtTokenProvider {
     }
 
     public Long getUserIdFromToken(String token) {
-        return getClaimsFromToken(token).get("userId", Long.class);
+        return parseUserId(getClaimsFromToken(token).get("userId"));
     }
 
     public String getUsernameFromToken(String token) {
         return getClaimsFromToken(token).getSubject();
     }
 
-    @SuppressWarnings("unchecked")
     public List<String> getRolesFromToken(String token) {
-        return getClaimsFromToken(token).get("roles", List.class);
+        return parseRoles(getClaimsFromToken(token).get("roles"));
     }
 
     /**
@@ -97,4 +190,56 @@ public class JwtTokenProvider {
         }
         return null;
     }
+
+    private UserPrincipal toPrincipal(Claims claims) {
+        Long userId = parseUserId(claims.get("userId"));
+        if (userId == null) {
+            return null;
+        }
+
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        for (String role : parseRoles(claims.get("roles"))) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+        }
+        return new UserPrincipal(userId, claims.getSubject(), authorities);
+    }
+
+    // auth-service issues userId as a string; tokens minted here carry a number
+    private static Long parseUserId(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Long.valueOf(text);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    // Access tokens from auth-service carry no roles claim
+    private static List<String> parseRoles(Object value) {
+        List<String> roles = new ArrayList<>();
+        if (value instanceof List<?> list) {
+            for (Object role : list) {
+                if (role != null) {
+                    roles.add(role.toString());
+                }
+            }
+        }
+        return roles;
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record VerifiedToken(UserPrincipal principal, Instant issuedAt, Instant expiresAt) {
+    }
 }
@@ -0,0 +1,98 @@
+package com.todoapp.task.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Local mirror of the per-user revocation epochs that auth-service writes on
+ * logout-all and password change: tokens issued at or before a user's epoch (epoch
+ * millis, against the token's iat_ms claim, or iat for tokens without it) are
+ * rejected. Updated from the revoke-epoch channel and resynchronised from Redis
+ * periodically, so checking a token never leaves the process.
+ */
+@Component
+public class RevocationEpochs implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevocationEpochs.class);
+
+    public static final String KEY_PREFIX = "revoke-epoch:";
+    public static final String CHANNEL = "revoke-epoch";
+    public static final String ISSUED_AT_MS_CLAIM = "iat_ms";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration retention;
+    private final ConcurrentMap<String, Long> epochs = new ConcurrentHashMap<>();
+
+    public RevocationEpochs(StringRedisTemplate redisTemplate,
+                            @Value("${security.revocation.retention:PT1H}") Duration retention) {
+        this.redisTemplate = redisTemplate;
+        this.retention = retention;
+    }
+
+    public boolean isRevoked(Long userId, Instant issuedAt) {
+        if (userId == null || issuedAt == null) {
+            return false;
+        }
+        Long epoch = epochs.get(userId.toString());
+        return epoch != null && issuedAt.toEpochMilli() <= epoch;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        resync();
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.resync-interval:PT1M}",
+            initialDelayString = "${security.revocation.resync-interval:PT1M}")
+    public void resync() {
+        try {
+            List<String> keys = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                cursor.forEachRemaining(keys::add);
+            }
+
+            List<String> values = keys.isEmpty() ? new ArrayList<>() : redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < keys.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    epochs.merge(keys.get(i).substring(KEY_PREFIX.length()), Long.parseLong(value), Math::max);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Revocation epoch resync failed: {}", e.getMessage());
+        }
+
+        long oldest = System.currentTimeMillis() - retention.toMillis();
+        epochs.values().removeIf(epoch -> epoch < oldest);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        try {
+            epochs.merge(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)), Math::max);
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring malformed revocation epoch message");
+        }
+    }
+}
@@ -1,21 +1,27 @@
 package com.todoapp.task.security;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.Setter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.List;
 
+/**
+ * Immutable, so one instance can be shared by every request carrying the same token.
+ */
 @Getter
-@Setter
-@AllArgsConstructor
 public class UserPrincipal implements UserDetails {
 
-    private Long id;
-    private String username;
-    private Collection<? extends GrantedAuthority> authorities;
+    private final Long id;
+    private final String username;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    public UserPrincipal(Long id, String username, Collection<? extends GrantedAuthority> authorities) {
+        this.id = id;
+        this.username = username;
+        this.authorities = List.copyOf(authorities);
+    }
 
     @Override
     public String getUsername() {
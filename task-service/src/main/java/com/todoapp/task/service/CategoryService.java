@@ -3,7 +3,10 @@ package com.todoapp.task.service;
 import com.todoapp.task.dto.request.CategoryRequest;
 import com.todoapp.task.dto.response.CategoryResponse;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface CategoryService {
 
@@ -13,6 +16,10 @@ public interface CategoryService {
 
     CategoryResponse getCategoryById(Long categoryId, Long userId);
 
+    Map<Long, CategoryResponse> getCategoriesByIds(Collection<Long> categoryIds, Long userId);
+
+    Set<Long> findExistingCategoryIds(Collection<Long> categoryIds, Long userId);
+
     CategoryResponse updateCategory(Long categoryId, CategoryRequest request, Long userId);
 
     void deleteCategory(Long categoryId, Long userId);
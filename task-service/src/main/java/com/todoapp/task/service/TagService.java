@@ -3,7 +3,10 @@ package com.todoapp.task.service;
 import com.todoapp.task.dto.request.TagRequest;
 import com.todoapp.task.dto.response.TagResponse;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface TagService {
     TagResponse createTag(TagRequest request, Long userId);
@@ -16,7 +19,15 @@ public interface TagService {
 
     List<TagResponse> getTagsByTaskId(Long taskId);
 
+    Map<Long, List<TagResponse>> getTagsByTaskIds(Collection<Long> taskIds);
+
     void addTagsToTask(Long taskId, List<Long> tagIds, Long userId);
 
     void updateTaskTags(Long taskId, List<Long> newTagIds, Long userId);
+
+    Set<Long> findExistingTagIds(Collection<Long> tagIds, Long userId);
+
+    void addTagsToTasks(Map<Long, ? extends Collection<Long>> tagIdsByTaskId);
+
+    void updateTasksTags(Map<Long, ? extends Collection<Long>> tagIdsByTaskId, Long userId);
 }
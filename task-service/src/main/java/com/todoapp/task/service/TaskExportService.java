@@ -0,0 +1,11 @@
+package com.todoapp.task.service;
+
+import com.todoapp.task.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+
+    void exportTasks(Long userId, ExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -1,6 +1,10 @@
 package com.todoapp.task.service;
 
+import com.todoapp.task.dto.request.TaskBatchOperation;
+import com.todoapp.task.dto.request.TaskFilterRequest;
 import com.todoapp.task.dto.request.TaskRequest;
+import com.todoapp.task.dto.response.CursorPageResponse;
+import com.todoapp.task.dto.response.TaskBatchResponse;
 import com.todoapp.task.dto.response.TaskResponse;
 import com.todoapp.task.dto.response.TaskStatisticsResponse;
 import com.todoapp.task.enums.Priority;
@@ -15,6 +19,8 @@ public interface TaskService {
 
     Page<TaskResponse> getAllTasks(Long userId, Pageable pageable);
 
+    CursorPageResponse<TaskResponse> getTasksByCursor(Long userId, Boolean completed, String cursor, int limit);
+
     TaskResponse getTaskById(Long taskId, Long userId);
 
     TaskResponse updateTask(Long taskId, TaskRequest request, Long userId);
@@ -23,6 +29,10 @@ public interface TaskService {
 
     void deleteTask(Long taskId, Long userId);
 
+    TaskBatchResponse processBatch(List<TaskBatchOperation> operations, Long userId);
+
+    Page<TaskResponse> queryTasks(Long userId, TaskFilterRequest filter, Pageable pageable);
+
     Page<TaskResponse> getCompletedTasks(Long userId, Pageable pageable);
 
     Page<TaskResponse> getPendingTasks(Long userId, Pageable pageable);
@@ -33,7 +43,7 @@ public interface TaskService {
 
     List<TaskResponse> getTasksDueToday(Long userId);
 
-    List<TaskResponse> searchTasks(Long userId, String keyword);
+    Page<TaskResponse> searchTasks(Long userId, String keyword, Pageable pageable);
 
     TaskStatisticsResponse getStatistics(Long userId);
 }
@@ -0,0 +1,22 @@
+package com.todoapp.task.service;
+
+import com.todoapp.task.dto.response.TaskStatisticsResponse;
+import com.todoapp.task.entity.Task;
+import com.todoapp.task.enums.Priority;
+
+import java.util.List;
+
+public interface TaskStatisticsService {
+
+    void recordTaskCreated(Task task);
+
+    void recordTaskChanged(Long userId, Boolean previousCompleted, Priority previousPriority, Task task);
+
+    void recordTaskDeleted(Task task);
+
+    void recordTasksCreated(Long userId, List<Task> tasks);
+
+    void recordTasksDeleted(Long userId, List<Task> tasks);
+
+    TaskStatisticsResponse getStatistics(Long userId);
+}
@@ -3,13 +3,25 @@ package com.todoapp.task.service.impl;
 import com.todoapp.task.dto.request.CategoryRequest;
 import com.todoapp.task.dto.response.CategoryResponse;
 import com.todoapp.task.entity.TaskCategory;
+import com.todoapp.task.event.TaskMetadataChangedEvent;
+import com.todoapp.task.event.TaskMetadataCreatedEvent;
 import com.todoapp.task.exception.CategoryNotFoundException;
 import com.todoapp.task.repository.CategoryRepository;
 import com.todoapp.task.service.CategoryService;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,9 +29,14 @@ import java.util.stream.Collectors;
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CategoryServiceImpl(CategoryRepository categoryRepository) {
+    public CategoryServiceImpl(CategoryRepository categoryRepository, EntityManager entityManager,
+                               ApplicationEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -35,6 +52,7 @@ public class CategoryServiceImpl implements CategoryService {
         category.setUserId(userId);
 
         category = categoryRepository.save(category);
+        eventPublisher.publishEvent(new TaskMetadataCreatedEvent(userId));
         return convertToResponse(category);
     }
 
@@ -49,11 +67,45 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     @Transactional
     public CategoryResponse getCategoryById(Long categoryId, Long userId) {
-        TaskCategory category = categoryRepository.findByIdAndUserId(categoryId, userId)
+        TaskCategory category = findOwnedCategory(categoryId, userId)
                 .orElseThrow(() -> new CategoryNotFoundException("Category not found"));
         return convertToResponse(category);
     }
 
+    @Override
+    @Transactional
+    public Map<Long, CategoryResponse> getCategoriesByIds(Collection<Long> categoryIds, Long userId) {
+        Map<Long, CategoryResponse> categoriesById = new HashMap<>();
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return categoriesById;
+        }
+
+        // multiLoad reads the second-level cache first and only queries the misses; a stale
+        // entry can at worst show an old name until SecondLevelCacheSync or the TTL evicts it
+        List<TaskCategory> categories = entityManager.unwrap(Session.class)
+                .byMultipleIds(TaskCategory.class)
+                .multiLoad(List.copyOf(categoryIds));
+        for (TaskCategory category : categories) {
+            if (category != null && userId.equals(category.getUserId())) {
+                categoriesById.put(category.getId(), convertToResponse(category));
+            }
+        }
+        return categoriesById;
+    }
+
+    @Override
+    @Transactional
+    public Set<Long> findExistingCategoryIds(Collection<Long> categoryIds, Long userId) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        // Guards a foreign key before a write, so never trust a possibly stale cached entity here
+        return categoryRepository.findByIdInAndUserId(categoryIds, userId).stream()
+                .map(TaskCategory::getId)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public CategoryResponse updateCategory(Long categoryId, CategoryRequest request, Long userId) {
         TaskCategory category = categoryRepository.findByIdAndUserId(categoryId, userId)
@@ -64,24 +116,33 @@ public class CategoryServiceImpl implements CategoryService {
         category.setColor(request.getColor());
 
         category = categoryRepository.save(category);
+        eventPublisher.publishEvent(new TaskMetadataChangedEvent(userId, TaskCategory.class, categoryId));
         return convertToResponse(category);
     }
 
     @Override
     public void deleteCategory(Long categoryId, Long userId) {
-        if (!categoryRepository.findByIdAndUserId(categoryId, userId).isPresent()) {
+        if (categoryRepository.findByIdAndUserId(categoryId, userId).isEmpty()) {
             throw new CategoryNotFoundException("Category not found");
         }
         categoryRepository.deleteByIdAndUserId(categoryId, userId);
+        eventPublisher.publishEvent(new TaskMetadataChangedEvent(userId, TaskCategory.class, categoryId));
     }
 
     @Override
     public void validateCategoryExists(Long categoryId, Long userId) {
-        if (!categoryRepository.findByIdAndUserId(categoryId, userId).isPresent()) {
+        // Guards a foreign key, so never trust a possibly stale cached entity here
+        if (categoryRepository.findByIdAndUserId(categoryId, userId).isEmpty()) {
             throw new CategoryNotFoundException("Category not found");
         }
     }
 
+    // Loads by primary key so the second-level cache serves it, then checks ownership
+    private Optional<TaskCategory> findOwnedCategory(Long categoryId, Long userId) {
+        return categoryRepository.findById(categoryId)
+                .filter(category -> Objects.equals(category.getUserId(), userId));
+    }
+
     private CategoryResponse convertToResponse(TaskCategory category) {
         CategoryResponse response = new CategoryResponse();
         response.setId(category.getId());
@@ -3,10 +3,12 @@ package com.todoapp.task.service.impl;
 import com.todoapp.task.dto.request.CommentRequest;
 import com.todoapp.task.dto.response.CommentResponse;
 import com.todoapp.task.entity.TaskComment;
+import com.todoapp.task.event.CommentChangedEvent;
 import com.todoapp.task.exception.TaskNotFoundException;
 import com.todoapp.task.repository.CommentRepository;
 import com.todoapp.task.repository.TaskRepository;
 import com.todoapp.task.service.CommentService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,10 +21,13 @@ public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CommentServiceImpl(CommentRepository commentRepository, TaskRepository taskRepository) {
+    public CommentServiceImpl(CommentRepository commentRepository, TaskRepository taskRepository,
+                              ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -38,6 +43,7 @@ public class CommentServiceImpl implements CommentService {
         comment.setComment(request.getComment());
 
         comment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(userId, taskId));
         return convertToResponse(comment);
     }
 
@@ -60,6 +66,7 @@ public class CommentServiceImpl implements CommentService {
         TaskComment comment = commentRepository.findByIdAndTaskUserId(commentId, userId)
                 .orElseThrow(() -> new TaskNotFoundException("Comment not found"));
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(userId, comment.getTaskId()));
     }
 
     // helper
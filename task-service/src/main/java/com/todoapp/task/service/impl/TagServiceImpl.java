@@ -2,18 +2,35 @@ package com.todoapp.task.service.impl;
 
 import com.todoapp.task.dto.request.TagRequest;
 import com.todoapp.task.dto.response.TagResponse;
+import com.todoapp.task.entity.TaskActivity;
 import com.todoapp.task.entity.TaskTag;
 import com.todoapp.task.entity.TaskTagRelationship;
+import com.todoapp.task.enums.ActivityType;
+import com.todoapp.task.event.TaskMetadataChangedEvent;
+import com.todoapp.task.event.TaskMetadataCreatedEvent;
 import com.todoapp.task.exception.TaskNotFoundException;
+import com.todoapp.task.repository.JdbcTimestampBinder;
 import com.todoapp.task.repository.TagRepository;
+import com.todoapp.task.repository.TaskActivityRepository;
 import com.todoapp.task.service.TagService;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,12 +39,26 @@ public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
 
+    private final TaskActivityRepository activityRepository;
+
     @PersistenceContext
     private final EntityManager entityManager;
 
-    public TagServiceImpl(TagRepository tagRepository, EntityManager entityManager) {
+    private final JdbcTemplate jdbcTemplate;
+
+    private final JdbcTimestampBinder timestampBinder;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TagServiceImpl(TagRepository tagRepository, TaskActivityRepository activityRepository,
+                          EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                          JdbcTimestampBinder timestampBinder, ApplicationEventPublisher eventPublisher) {
         this.tagRepository = tagRepository;
+        this.activityRepository = activityRepository;
         this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.timestampBinder = timestampBinder;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -41,6 +72,7 @@ public class TagServiceImpl implements TagService {
         tag.setUserId(userId);
 
         tag = tagRepository.save(tag);
+        eventPublisher.publishEvent(new TaskMetadataCreatedEvent(userId));
         return convertToResponse(tag);
     }
 
@@ -56,7 +88,9 @@ public class TagServiceImpl implements TagService {
     @Override
     @Transactional(readOnly = true)
     public TagResponse getTagById(Long tagId, Long userId) {
-        TaskTag tag = tagRepository.findByIdAndUserId(tagId, userId)
+        // By primary key so the second-level cache serves it
+        TaskTag tag = tagRepository.findById(tagId)
+                .filter(found -> Objects.equals(found.getUserId(), userId))
                 .orElseThrow(() -> new TaskNotFoundException("Tag not found"));
         return convertToResponse(tag);
     }
@@ -67,17 +101,24 @@ public class TagServiceImpl implements TagService {
             throw new TaskNotFoundException("Tag not found");
         }
         tagRepository.deleteByIdAndUserId(tagId, userId);
+        eventPublisher.publishEvent(new TaskMetadataChangedEvent(userId, TaskTag.class, tagId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TagResponse> getTagsByTaskId(Long taskId) {
-        String jpql = "SELECT t FROM TaskTag t JOIN TaskTagRelationship ttr ON t.id = ttr.tagId WHERE ttr.taskId = :taskId";
-        List<TaskTag> tags = entityManager.createQuery(jpql, TaskTag.class)
-                .setParameter("taskId", taskId)
-                .getResultList();
+        return findTagsByTaskIds(List.of(taskId)).getOrDefault(taskId, new ArrayList<>()).stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+    }
 
-        return tags.stream().map(this::convertToResponse).collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<TagResponse>> getTagsByTaskIds(Collection<Long> taskIds) {
+        Map<Long, List<TagResponse>> tagsByTaskId = new HashMap<>();
+        findTagsByTaskIds(taskIds).forEach((taskId, tags) ->
+                tagsByTaskId.put(taskId, tags.stream().map(this::convertToResponse).collect(Collectors.toList())));
+        return tagsByTaskId;
     }
 
     @Override
@@ -95,17 +136,137 @@ public class TagServiceImpl implements TagService {
 
     @Override
     public void updateTaskTags(Long taskId, List<Long> newTagIds, Long userId) {
-        String deleteJpql = "DELETE FROM TaskTagRelationship ttr WHERE ttr.taskId = :taskId";
-        entityManager.createQuery(deleteJpql)
-                .setParameter("taskId", taskId)
-                .executeUpdate();
+        updateTasksTags(Map.of(taskId, newTagIds != null ? newTagIds : new ArrayList<>()), userId);
+    }
+
+    /**
+     * Brings each task's tags to the requested set by inserting only the added links and
+     * deleting only the removed ones, recording TAG_ADDED/TAG_REMOVED for that delta.
+     * Tasks whose tags are unchanged cost a single shared read.
+     */
+    @Override
+    public void updateTasksTags(Map<Long, ? extends Collection<Long>> tagIdsByTaskId, Long userId) {
+        Map<Long, List<TaskTag>> currentTags = findTagsByTaskIds(tagIdsByTaskId.keySet());
+
+        Map<Long, Set<Long>> addedByTaskId = new HashMap<>();
+        Map<Long, List<TaskTag>> removedByTaskId = new HashMap<>();
+        Set<Long> addedTagIds = new HashSet<>();
+        tagIdsByTaskId.forEach((taskId, requested) -> {
+            List<TaskTag> current = currentTags.getOrDefault(taskId, new ArrayList<>());
+            Set<Long> currentIds = current.stream().map(TaskTag::getId).collect(Collectors.toSet());
+
+            Set<Long> added = new LinkedHashSet<>(requested);
+            added.removeAll(currentIds);
+            List<TaskTag> removed = current.stream()
+                    .filter(tag -> !requested.contains(tag.getId()))
+                    .collect(Collectors.toList());
+
+            if (!added.isEmpty()) {
+                addedByTaskId.put(taskId, added);
+                addedTagIds.addAll(added);
+            }
+            if (!removed.isEmpty()) {
+                removedByTaskId.put(taskId, removed);
+            }
+        });
+
+        if (addedByTaskId.isEmpty() && removedByTaskId.isEmpty()) {
+            return;
+        }
+
+        Map<Long, TaskTag> addedTags = new HashMap<>();
+        if (!addedTagIds.isEmpty()) {
+            tagRepository.findByIdInAndUserId(addedTagIds, userId).forEach(tag -> addedTags.put(tag.getId(), tag));
+            if (addedTags.size() != addedTagIds.size()) {
+                throw new TaskNotFoundException("Some tags not found");
+            }
+        }
+
+        List<Object[]> removedRows = new ArrayList<>();
+        List<TaskActivity> activities = new ArrayList<>();
+        removedByTaskId.forEach((taskId, tags) -> tags.forEach(tag -> {
+            removedRows.add(new Object[]{taskId, tag.getId()});
+            activities.add(new TaskActivity(taskId, userId, ActivityType.TAG_REMOVED, tag.getName(), null));
+        }));
+        addedByTaskId.forEach((taskId, tagIds) -> tagIds.forEach(tagId ->
+                activities.add(new TaskActivity(taskId, userId, ActivityType.TAG_ADDED, null, addedTags.get(tagId).getName()))));
 
-        if (newTagIds != null && !newTagIds.isEmpty()) {
-            addTagsToTask(taskId, newTagIds, userId);
+        if (!removedRows.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM task_tag_relationships WHERE task_id = ? AND tag_id = ?", removedRows);
+        }
+        addTagsToTasks(addedByTaskId);
+        activityRepository.saveAll(activities);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> findExistingTagIds(Collection<Long> tagIds, Long userId) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return tagRepository.findByIdInAndUserId(tagIds, userId).stream()
+                .map(TaskTag::getId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Inserts already validated task/tag links with a single JDBC batch.
+     */
+    @Override
+    public void addTagsToTasks(Map<Long, ? extends Collection<Long>> tagIdsByTaskId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long[]> rows = new ArrayList<>();
+        tagIdsByTaskId.forEach((taskId, tagIds) -> {
+            for (Long tagId : tagIds) {
+                rows.add(new Long[]{taskId, tagId});
+            }
+        });
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO task_tag_relationships (task_id, tag_id, created_at) VALUES (?, ?, ?)",
+                    rows, rows.size(), (ps, row) -> {
+                        ps.setLong(1, row[0]);
+                        ps.setLong(2, row[1]);
+                        timestampBinder.bind(ps, 3, now);
+                    });
         }
     }
 
     // helper
+    private Map<Long, List<TaskTag>> findTagsByTaskIds(Collection<Long> taskIds) {
+        Map<Long, List<TaskTag>> tagsByTaskId = new HashMap<>();
+        if (taskIds == null || taskIds.isEmpty()) {
+            return tagsByTaskId;
+        }
+
+        // Only the link rows are queried; the tags themselves come from the second-level cache.
+        // Deleting a tag cascades to its links, so a stale entry can at worst carry an old name.
+        String jpql = "SELECT ttr.taskId, ttr.tagId FROM TaskTagRelationship ttr WHERE ttr.taskId IN :taskIds";
+        List<Object[]> rows = entityManager.createQuery(jpql, Object[].class)
+                .setParameter("taskIds", taskIds)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return tagsByTaskId;
+        }
+
+        List<Long> tagIds = rows.stream().map(row -> (Long) row[1]).distinct().collect(Collectors.toList());
+        Map<Long, TaskTag> tagsById = new HashMap<>();
+        for (TaskTag tag : entityManager.unwrap(Session.class).byMultipleIds(TaskTag.class).multiLoad(tagIds)) {
+            if (tag != null) {
+                tagsById.put(tag.getId(), tag);
+            }
+        }
+
+        for (Object[] row : rows) {
+            TaskTag tag = tagsById.get((Long) row[1]);
+            if (tag != null) {
+                tagsByTaskId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(tag);
+            }
+        }
+        return tagsByTaskId;
+    }
+
     private TagResponse convertToResponse(TaskTag tag) {
         TagResponse response = new TagResponse();
         response.setId(tag.getId());
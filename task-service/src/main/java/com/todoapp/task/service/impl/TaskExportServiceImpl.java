@@ -0,0 +1,169 @@
+package com.todoapp.task.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.task.config.DataSourceConfig;
+import com.todoapp.task.dto.response.CategoryResponse;
+import com.todoapp.task.dto.response.TagResponse;
+import com.todoapp.task.dto.response.TaskResponse;
+import com.todoapp.task.enums.ExportFormat;
+import com.todoapp.task.enums.Priority;
+import com.todoapp.task.repository.JdbcTimestampBinder;
+import com.todoapp.task.service.CategoryService;
+import com.todoapp.task.service.TagService;
+import com.todoapp.task.service.TaskExportService;
+import com.todoapp.task.util.DateUtil;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streams a user's tasks straight from a server-side cursor on the export pool.
+ * Rows are handled in fixed-size chunks: tags are resolved with one query per
+ * chunk and categories once per export, so memory stays flat. No transaction is
+ * held on the primary pool while the export runs.
+ */
+@Service
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String EXPORT_SQL = "SELECT id, title, description, completed, user_id, category_id, " +
+            "due_date, priority, created_at, updated_at FROM tasks WHERE user_id = ? ORDER BY id";
+    private static final String CSV_HEADER =
+            "id,title,description,completed,priority,dueDate,category,tags,createdAt,updatedAt";
+
+    private final JdbcTemplate exportJdbcTemplate;
+    private final JdbcTimestampBinder timestampBinder;
+    private final TagService tagService;
+    private final CategoryService categoryService;
+    private final ObjectMapper objectMapper;
+
+    public TaskExportServiceImpl(@Qualifier(DataSourceConfig.EXPORT_DATA_SOURCE) DataSource exportDataSource,
+                                 JdbcTimestampBinder timestampBinder, TagService tagService,
+                                 CategoryService categoryService, ObjectMapper objectMapper) {
+        this.exportJdbcTemplate = new JdbcTemplate(exportDataSource);
+        // With useCursorFetch on the export pool, the fetch size is the cursor's batch size
+        this.exportJdbcTemplate.setFetchSize(CHUNK_SIZE);
+        this.timestampBinder = timestampBinder;
+        this.tagService = tagService;
+        this.categoryService = categoryService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void exportTasks(Long userId, ExportFormat format, OutputStream outputStream) throws IOException {
+        Map<Long, CategoryResponse> categoriesById = categoryService.getAllCategories(userId).stream()
+                .collect(Collectors.toMap(CategoryResponse::getId, Function.identity()));
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<TaskResponse> tasks = exportJdbcTemplate.queryForStream(EXPORT_SQL,
+                (rs, rowNum) -> mapRow(rs, categoriesById), userId)) {
+            List<TaskResponse> chunk = new ArrayList<>(CHUNK_SIZE);
+            Iterator<TaskResponse> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(chunk, format, writer);
+                    chunk.clear();
+                }
+            }
+            writeChunk(chunk, format, writer);
+        }
+
+        writer.flush();
+    }
+
+    private TaskResponse mapRow(ResultSet rs, Map<Long, CategoryResponse> categoriesById) throws SQLException {
+        TaskResponse response = new TaskResponse();
+        response.setId(rs.getLong("id"));
+        response.setTitle(rs.getString("title"));
+        response.setDescription(rs.getString("description"));
+        response.setCompleted(rs.getBoolean("completed"));
+        response.setUserId(rs.getLong("user_id"));
+        long categoryId = rs.getLong("category_id");
+        if (!rs.wasNull()) {
+            response.setCategory(categoriesById.get(categoryId));
+        }
+        response.setDueDate(timestampBinder.read(rs, "due_date"));
+        response.setPriority(Priority.valueOf(rs.getString("priority")));
+        response.setCreatedAt(timestampBinder.read(rs, "created_at"));
+        response.setUpdatedAt(timestampBinder.read(rs, "updated_at"));
+        return response;
+    }
+
+    private void writeChunk(List<TaskResponse> chunk, ExportFormat format, Writer writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<Long> taskIds = chunk.stream().map(TaskResponse::getId).collect(Collectors.toList());
+        Map<Long, List<TagResponse>> tagsByTaskId = tagService.getTagsByTaskIds(taskIds);
+
+        for (TaskResponse response : chunk) {
+            response.setTags(tagsByTaskId.getOrDefault(response.getId(), new ArrayList<>()));
+
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(response, writer);
+            } else {
+                writer.write(objectMapper.writeValueAsString(response));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(TaskResponse task, Writer writer) throws IOException {
+        String tags = task.getTags().stream().map(TagResponse::getName).collect(Collectors.joining(";"));
+        String[] values = {
+                String.valueOf(task.getId()),
+                task.getTitle(),
+                task.getDescription(),
+                String.valueOf(task.getCompleted()),
+                task.getPriority() != null ? task.getPriority().getValue() : null,
+                DateUtil.formatDateTime(task.getDueDate()),
+                task.getCategory() != null ? task.getCategory().getName() : null,
+                tags,
+                DateUtil.formatDateTime(task.getCreatedAt()),
+                DateUtil.formatDateTime(task.getUpdatedAt())
+        };
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,20 +1,49 @@
 package com.todoapp.task.service.impl;
 
+import com.todoapp.task.cache.TaskResponseCache;
+import com.todoapp.task.dto.request.TaskBatchOperation;
+import com.todoapp.task.dto.request.TaskFilterRequest;
 import com.todoapp.task.dto.request.TaskRequest;
+import com.todoapp.task.dto.response.CategoryResponse;
+import com.todoapp.task.dto.response.CursorPageResponse;
+import com.todoapp.task.dto.response.TagResponse;
+import com.todoapp.task.dto.response.TaskBatchItemResponse;
+import com.todoapp.task.dto.response.TaskBatchResponse;
 import com.todoapp.task.dto.response.TaskResponse;
 import com.todoapp.task.dto.response.TaskStatisticsResponse;
 import com.todoapp.task.entity.*;
+import com.todoapp.task.event.TaskBatchChangedEvent;
+import com.todoapp.task.event.TaskChangedEvent;
+import com.todoapp.task.enums.BatchOperationType;
 import com.todoapp.task.enums.Priority;
 import com.todoapp.task.exception.TaskNotFoundException;
 import com.todoapp.task.repository.TaskRepository;
+import com.todoapp.task.repository.TaskSpecifications;
+import com.todoapp.task.search.TaskSearchEngine;
 import com.todoapp.task.service.*;
+import com.todoapp.task.util.CursorUtil;
+import com.todoapp.task.util.TaskMapper;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,11 +53,24 @@ public class TaskServiceImpl implements TaskService {
     private final TaskRepository taskRepository;
     private final CategoryService categoryService;
     private final TagService tagService;
-
-    public TaskServiceImpl(TaskRepository taskRepository, CategoryService categoryService, TagService tagService) {
+    private final TaskStatisticsService statisticsService;
+    private final TaskSearchEngine searchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskResponseCache responseCache;
+    private final Validator validator;
+
+    public TaskServiceImpl(TaskRepository taskRepository, CategoryService categoryService, TagService tagService,
+                           TaskStatisticsService statisticsService, TaskSearchEngine searchEngine,
+                           ApplicationEventPublisher eventPublisher, TaskResponseCache responseCache,
+                           Validator validator) {
         this.taskRepository = taskRepository;
         this.categoryService = categoryService;
         this.tagService = tagService;
+        this.statisticsService = statisticsService;
+        this.searchEngine = searchEngine;
+        this.eventPublisher = eventPublisher;
+        this.responseCache = responseCache;
+        this.validator = validator;
     }
 
     @Override
@@ -47,6 +89,8 @@ public class TaskServiceImpl implements TaskService {
         }
 
         task = taskRepository.save(task);
+        statisticsService.recordTaskCreated(task);
+        eventPublisher.publishEvent(new TaskChangedEvent(userId, task.getId()));
 
         if (request.getTagIds() != null && !request.getTagIds().isEmpty()) {
             tagService.addTagsToTask(task.getId(), request.getTagIds(), userId);
@@ -55,29 +99,70 @@ public class TaskServiceImpl implements TaskService {
         return convertToResponse(task);
     }
 
+    // Cached reads run without a surrounding transaction so a cache hit never takes a connection
     @Override
-    @Transactional
+    @Transactional(Transactional.TxType.SUPPORTS)
     public Page<TaskResponse> getAllTasks(Long userId, Pageable pageable) {
-        return taskRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
-                .map(this::convertToResponse);
+        return responseCache.getPage(userId, "all:" + pageKey(pageable), pageable,
+                () -> convertToResponsePage(taskRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)));
     }
 
     @Override
-    @Transactional
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public CursorPageResponse<TaskResponse> getTasksByCursor(Long userId, Boolean completed, String cursor, int limit) {
+        return responseCache.getCursorPage(userId, completed + ":" + limit + ":" + cursor,
+                () -> loadTasksByCursor(userId, completed, cursor, limit));
+    }
+
+    private CursorPageResponse<TaskResponse> loadTasksByCursor(Long userId, Boolean completed, String cursor, int limit) {
+        // Fetch one extra row to learn whether another page exists without counting
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<Task> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = completed == null
+                    ? taskRepository.findPageStart(userId, fetchLimit)
+                    : taskRepository.findPageStart(userId, completed, fetchLimit);
+        } else {
+            CursorUtil.Cursor position = CursorUtil.decode(cursor);
+            tasks = completed == null
+                    ? taskRepository.findPageAfter(userId, position.createdAt(), position.id(), fetchLimit)
+                    : taskRepository.findPageAfter(userId, completed, position.createdAt(), position.id(), fetchLimit);
+        }
+
+        boolean hasNext = tasks.size() > limit;
+        String nextCursor = null;
+        if (hasNext) {
+            tasks = tasks.subList(0, limit);
+            Task last = tasks.get(limit - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return new CursorPageResponse<>(convertToResponses(tasks), nextCursor, hasNext, tasks.size());
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
     public TaskResponse getTaskById(Long taskId, Long userId) {
-        Task task = taskRepository.findByIdAndUserId(taskId, userId)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found"));
-        return convertToResponse(task);
+        return responseCache.getTask(userId, taskId, () -> {
+            Task task = taskRepository.findByIdAndUserId(taskId, userId)
+                    .orElseThrow(() -> new TaskNotFoundException("Task not found"));
+            return convertToResponse(task);
+        });
     }
 
     @Override
     public TaskResponse updateTask(Long taskId, TaskRequest request, Long userId) {
         Task task = taskRepository.findByIdAndUserId(taskId, userId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found"));
+        Boolean previousCompleted = task.getCompleted();
+        Priority previousPriority = task.getPriority();
 
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
-        task.setPriority(request.getPriority());
+        // Priority is NOT NULL; an explicit null keeps the current one, as in a batch update
+        if (request.getPriority() != null) {
+            task.setPriority(request.getPriority());
+        }
         task.setDueDate(request.getDueDate());
 
         if (request.getCompleted() != null) {
@@ -92,6 +177,8 @@ public class TaskServiceImpl implements TaskService {
         }
 
         task = taskRepository.save(task);
+        statisticsService.recordTaskChanged(userId, previousCompleted, previousPriority, task);
+        eventPublisher.publishEvent(new TaskChangedEvent(userId, taskId));
 
         if (request.getTagIds() != null) {
             tagService.updateTaskTags(task.getId(), request.getTagIds(), userId);
@@ -105,114 +192,322 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskRepository.findByIdAndUserId(taskId, userId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found"));
 
-        task.setCompleted(!task.getCompleted());
+        Boolean previousCompleted = task.getCompleted();
+        task.setCompleted(!previousCompleted);
         task = taskRepository.save(task);
+        statisticsService.recordTaskChanged(userId, previousCompleted, task.getPriority(), task);
+        eventPublisher.publishEvent(new TaskChangedEvent(userId, taskId));
 
         return convertToResponse(task);
     }
 
     @Override
     public void deleteTask(Long taskId, Long userId) {
-        if (!taskRepository.findByIdAndUserId(taskId, userId).isPresent()) {
-            throw new TaskNotFoundException("Task not found");
-        }
+        Task task = taskRepository.findByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found"));
         taskRepository.deleteByIdAndUserId(taskId, userId);
+        statisticsService.recordTaskDeleted(task);
+        eventPublisher.publishEvent(new TaskChangedEvent(userId, taskId));
     }
 
+    /**
+     * Applies a batch of operations in one transaction. Referenced categories, tags and
+     * tasks are resolved with one query each; invalid operations are reported per item
+     * and skipped. New tasks and tag links are written with JDBC batches.
+     */
     @Override
-    @Transactional
+    public TaskBatchResponse processBatch(List<TaskBatchOperation> operations, Long userId) {
+        Set<Long> categoryIds = new HashSet<>();
+        Set<Long> tagIds = new HashSet<>();
+        Set<Long> taskIds = new HashSet<>();
+        for (TaskBatchOperation operation : operations) {
+            if (operation == null) {
+                continue;
+            }
+            TaskRequest request = operation.getTask();
+            if (request != null && request.getCategoryId() != null) {
+                categoryIds.add(request.getCategoryId());
+            }
+            if (request != null && request.getTagIds() != null) {
+                tagIds.addAll(request.getTagIds());
+            }
+            if (operation.getTaskId() != null && operation.getType() != BatchOperationType.CREATE) {
+                taskIds.add(operation.getTaskId());
+            }
+        }
+
+        Set<Long> validCategoryIds = categoryService.findExistingCategoryIds(categoryIds, userId);
+        Set<Long> validTagIds = tagService.findExistingTagIds(tagIds, userId);
+        Map<Long, Task> existingTasks = taskIds.isEmpty() ? new HashMap<>()
+                : taskRepository.findByIdInAndUserId(taskIds, userId).stream()
+                .collect(Collectors.toMap(Task::getId, task -> task));
+
+        TaskBatchItemResponse[] results = new TaskBatchItemResponse[operations.size()];
+        Map<Integer, Task> created = new HashMap<>();
+        Map<Integer, Task> updated = new HashMap<>();
+        Map<Integer, Task> deleted = new HashMap<>();
+        Map<Task, Set<Long>> createdTags = new HashMap<>();
+        Map<Long, Set<Long>> updatedTags = new HashMap<>();
+        Set<Long> touchedTaskIds = new HashSet<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            TaskBatchOperation operation = operations.get(i);
+            String error = validateOperation(operation, validCategoryIds, validTagIds, existingTasks, touchedTaskIds);
+            if (error != null) {
+                results[i] = operation == null
+                        ? TaskBatchItemResponse.failure(i, null, null, error)
+                        : TaskBatchItemResponse.failure(i, operation.getType(), operation.getTaskId(), error);
+                continue;
+            }
+
+            TaskRequest request = operation.getTask();
+            switch (operation.getType()) {
+                case CREATE -> {
+                    Task task = new Task();
+                    task.setTitle(request.getTitle());
+                    task.setDescription(request.getDescription());
+                    task.setCompleted(false);
+                    task.setUserId(userId);
+                    task.setPriority(request.getPriority() != null ? request.getPriority() : Priority.MEDIUM);
+                    task.setDueDate(request.getDueDate());
+                    task.setCategoryId(request.getCategoryId());
+                    created.put(i, task);
+                    if (request.getTagIds() != null) {
+                        createdTags.put(task, new LinkedHashSet<>(request.getTagIds()));
+                    }
+                }
+                case UPDATE -> {
+                    Task task = existingTasks.get(operation.getTaskId());
+                    Boolean previousCompleted = task.getCompleted();
+                    Priority previousPriority = task.getPriority();
+
+                    task.setTitle(request.getTitle());
+                    task.setDescription(request.getDescription());
+                    if (request.getPriority() != null) {
+                        task.setPriority(request.getPriority());
+                    }
+                    task.setDueDate(request.getDueDate());
+                    if (request.getCompleted() != null) {
+                        task.setCompleted(request.getCompleted());
+                    }
+                    task.setCategoryId(request.getCategoryId());
+
+                    statisticsService.recordTaskChanged(userId, previousCompleted, previousPriority, task);
+                    updated.put(i, task);
+                    if (request.getTagIds() != null) {
+                        updatedTags.put(task.getId(), new LinkedHashSet<>(request.getTagIds()));
+                    }
+                }
+                case DELETE -> deleted.put(i, existingTasks.get(operation.getTaskId()));
+            }
+        }
+
+        if (!created.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Task> newTasks = new ArrayList<>(created.values());
+            newTasks.forEach(task -> {
+                task.setCreatedAt(now);
+                task.setUpdatedAt(now);
+            });
+            taskRepository.insertAll(newTasks);
+            statisticsService.recordTasksCreated(userId, newTasks);
+        }
+
+        if (!updated.isEmpty()) {
+            taskRepository.saveAll(updated.values());
+        }
+
+        if (!createdTags.isEmpty()) {
+            Map<Long, Set<Long>> tagIdsByTaskId = new HashMap<>();
+            createdTags.forEach((task, taskTagIds) -> tagIdsByTaskId.put(task.getId(), taskTagIds));
+            tagService.addTagsToTasks(tagIdsByTaskId);
+        }
+        if (!updatedTags.isEmpty()) {
+            tagService.updateTasksTags(updatedTags, userId);
+        }
+
+        if (!deleted.isEmpty()) {
+            List<Task> deletedTasks = new ArrayList<>(deleted.values());
+            taskRepository.deleteByIdInAndUserId(deletedTasks.stream().map(Task::getId).collect(Collectors.toList()), userId);
+            statisticsService.recordTasksDeleted(userId, deletedTasks);
+        }
+
+        List<Task> written = new ArrayList<>(created.values());
+        written.addAll(updated.values());
+        Map<Long, TaskResponse> responsesById = convertToResponses(written).stream()
+                .collect(Collectors.toMap(TaskResponse::getId, response -> response));
+
+        int successCount = 0;
+        Set<Long> changedTaskIds = new LinkedHashSet<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            BatchOperationType type = operations.get(i).getType();
+            Task task = created.containsKey(i) ? created.get(i) : updated.containsKey(i) ? updated.get(i) : deleted.get(i);
+            results[i] = TaskBatchItemResponse.success(i, type, task.getId(), responsesById.get(task.getId()));
+            changedTaskIds.add(task.getId());
+            successCount++;
+        }
+        // One event for the batch, so listeners bump the cache and reread tasks once, not per item
+        if (!changedTaskIds.isEmpty()) {
+            eventPublisher.publishEvent(new TaskBatchChangedEvent(userId, changedTaskIds));
+        }
+
+        return new TaskBatchResponse(List.of(results), successCount, results.length - successCount);
+    }
+
+    private String validateOperation(TaskBatchOperation operation, Set<Long> validCategoryIds, Set<Long> validTagIds,
+                                     Map<Long, Task> existingTasks, Set<Long> touchedTaskIds) {
+        if (operation == null) {
+            return "Operation is required";
+        }
+        // Bean Validation per item, so one invalid operation does not reject the whole batch
+        Set<ConstraintViolation<TaskBatchOperation>> violations = validator.validate(operation);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        TaskRequest request = operation.getTask();
+        if (operation.getType() != BatchOperationType.DELETE && request == null) {
+            return "Task data is required";
+        }
+
+        if (operation.getType() != BatchOperationType.CREATE) {
+            if (operation.getTaskId() == null) {
+                return "Task ID is required";
+            }
+            if (!existingTasks.containsKey(operation.getTaskId())) {
+                return "Task not found";
+            }
+            // A task written twice in one batch would make the outcome depend on statement order
+            if (!touchedTaskIds.add(operation.getTaskId())) {
+                return "Task appears more than once in the batch";
+            }
+        }
+
+        if (request != null && operation.getType() != BatchOperationType.DELETE) {
+            if (request.getCategoryId() != null && !validCategoryIds.contains(request.getCategoryId())) {
+                return "Category not found";
+            }
+            if (request.getTagIds() != null && !validTagIds.containsAll(request.getTagIds())) {
+                return "Some tags not found";
+            }
+        }
+        return null;
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public Page<TaskResponse> queryTasks(Long userId, TaskFilterRequest filter, Pageable pageable) {
+        return responseCache.getPage(userId, "query:" + responseCache.signatureOf(filter) + ":" + pageKey(pageable), pageable,
+                () -> convertToResponsePage(taskRepository.findAll(TaskSpecifications.filter(userId, filter), pageable)));
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
     public Page<TaskResponse> getCompletedTasks(Long userId, Pageable pageable) {
-        return taskRepository.findByUserIdAndCompleted(userId, true, pageable)
-                .map(this::convertToResponse);
+        return responseCache.getPage(userId, "completed:" + pageKey(pageable), pageable,
+                () -> convertToResponsePage(taskRepository.findByUserIdAndCompleted(userId, true, pageable)));
     }
 
     @Override
-    @Transactional
+    @Transactional(Transactional.TxType.SUPPORTS)
     public Page<TaskResponse> getPendingTasks(Long userId, Pageable pageable) {
-        return taskRepository.findByUserIdAndCompleted(userId, false, pageable)
-                .map(this::convertToResponse);
+        return responseCache.getPage(userId, "pending:" + pageKey(pageable), pageable,
+                () -> convertToResponsePage(taskRepository.findByUserIdAndCompleted(userId, false, pageable)));
     }
 
     @Override
-    @Transactional
+    @Transactional(Transactional.TxType.SUPPORTS)
     public List<TaskResponse> getTasksByPriority(Long userId, Priority priority) {
-        return taskRepository.findByUserIdAndPriority(userId, priority)
-                .stream().map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return responseCache.getList(userId, "priority:" + priority,
+                () -> convertToResponses(taskRepository.findByUserIdAndPriority(userId, priority)));
     }
 
     @Override
     @Transactional
     public List<TaskResponse> getOverdueTasks(Long userId) {
-        return taskRepository.findOverdueTasks(userId, LocalDateTime.now())
-                .stream().map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return convertToResponses(taskRepository.findOverdueTasks(userId, LocalDateTime.now()));
     }
 
     @Override
     @Transactional
     public List<TaskResponse> getTasksDueToday(Long userId) {
-        return taskRepository.findTasksDueToday(userId)
-                .stream().map(this::convertToResponse)
-                .collect(Collectors.toList());
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        return convertToResponses(taskRepository.findTasksDueToday(userId, startOfDay, startOfDay.plusDays(1)));
     }
 
     @Override
     @Transactional
-    public List<TaskResponse> searchTasks(Long userId, String keyword) {
-        return taskRepository.searchTasks(userId, keyword)
-                .stream().map(this::convertToResponse)
+    public Page<TaskResponse> searchTasks(Long userId, String keyword, Pageable pageable) {
+        Page<Long> hits = searchEngine.search(userId, keyword, pageable);
+        List<Long> pageIds = hits.getContent();
+
+        // Reload only the requested page, keeping rank order
+        Map<Long, Task> tasksById = taskRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Task::getId, task -> task));
+        List<Task> tasks = pageIds.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+
+        return new PageImpl<>(convertToResponses(tasks), pageable, hits.getTotalElements());
     }
 
     @Override
     @Transactional
     public TaskStatisticsResponse getStatistics(Long userId) {
-        TaskStatisticsResponse stats = new TaskStatisticsResponse();
+        return statisticsService.getStatistics(userId);
+    }
 
-        stats.setTotalTasks(taskRepository.countByUserId(userId));
-        stats.setCompletedTasks(taskRepository.countByUserIdAndCompleted(userId, true));
-        stats.setPendingTasks(taskRepository.countByUserIdAndCompleted(userId, false));
+    private static String pageKey(Pageable pageable) {
+        return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+    }
 
-        stats.setHighPriorityTasks(taskRepository.countByUserIdAndPriority(userId, Priority.HIGH));
-        stats.setMediumPriorityTasks(taskRepository.countByUserIdAndPriority(userId, Priority.MEDIUM));
-        stats.setLowPriorityTasks(taskRepository.countByUserIdAndPriority(userId, Priority.LOW));
+    private TaskResponse convertToResponse(Task task) {
+        return convertToResponses(Collections.singletonList(task)).get(0);
+    }
 
-        if (stats.getTotalTasks() > 0) {
-            double rate = (stats.getCompletedTasks().doubleValue() / stats.getTotalTasks().doubleValue()) * 100;
-            stats.setCompletionRate(Math.round(rate * 100.0) / 100.0);
-        } else {
-            stats.setCompletionRate(0.0);
+    private Page<TaskResponse> convertToResponsePage(Page<Task> page) {
+        return new PageImpl<>(convertToResponses(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * Convert a batch of tasks, resolving tags and categories for the whole batch
+     * in one query each instead of two queries per task.
+     */
+    private List<TaskResponse> convertToResponses(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        stats.setTasksToday((long) getTasksDueToday(userId).size());
-        stats.setOverdueTasks((long) getOverdueTasks(userId).size());
+        List<Long> taskIds = tasks.stream().map(Task::getId).collect(Collectors.toList());
+        Map<Long, List<TagResponse>> tagsByTaskId = tagService.getTagsByTaskIds(taskIds);
 
-        return stats;
-    }
+        Map<Long, CategoryResponse> categoriesById = new HashMap<>();
+        Map<Long, Set<Long>> categoryIdsByUser = tasks.stream()
+                .filter(task -> task.getCategoryId() != null)
+                .collect(Collectors.groupingBy(Task::getUserId,
+                        Collectors.mapping(Task::getCategoryId, Collectors.toSet())));
+        categoryIdsByUser.forEach((userId, categoryIds) ->
+                categoriesById.putAll(categoryService.getCategoriesByIds(categoryIds, userId)));
 
-    private TaskResponse convertToResponse(Task task) {
-        TaskResponse response = new TaskResponse();
-        response.setId(task.getId());
-        response.setTitle(task.getTitle());
-        response.setDescription(task.getDescription());
-        response.setCompleted(task.getCompleted());
-        response.setUserId(task.getUserId());
-        response.setDueDate(task.getDueDate());
-        response.setPriority(task.getPriority());
-        response.setCreatedAt(task.getCreatedAt());
-        response.setUpdatedAt(task.getUpdatedAt());
-
-        if (task.getCategoryId() != null) {
-            try {
-                response.setCategory(categoryService.getCategoryById(task.getCategoryId(), task.getUserId()));
-            } catch (Exception e) {
-                // ignore deleted category
-            }
-        }
+        List<TaskResponse> responses = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            TaskResponse response = TaskMapper.toResponse(task);
 
-        response.setTags(tagService.getTagsByTaskId(task.getId()));
+            // missing entry means the category was deleted
+            if (task.getCategoryId() != null) {
+                response.setCategory(categoriesById.get(task.getCategoryId()));
+            }
 
-        return response;
+            response.setTags(tagsByTaskId.getOrDefault(task.getId(), new ArrayList<>()));
+            responses.add(response);
+        }
+        return responses;
     }
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+package com.todoapp.task.service.impl;
+
+import com.todoapp.task.dto.response.TaskStatisticsResponse;
+import com.todoapp.task.entity.Task;
+import com.todoapp.task.entity.TaskUserStats;
+import com.todoapp.task.enums.Priority;
+import com.todoapp.task.repository.TaskRepository;
+import com.todoapp.task.repository.TaskUserStatsRepository;
+import com.todoapp.task.service.TaskStatisticsService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keeps per-user task counters in task_user_stats so that statistics are a
+ * primary-key read. Counters are adjusted inside the caller's transaction;
+ * a user without a row is seeded from the tasks table on first use.
+ */
+@Service
+@Transactional
+public class TaskStatisticsServiceImpl implements TaskStatisticsService {
+
+    private final TaskUserStatsRepository statsRepository;
+    private final TaskRepository taskRepository;
+
+    public TaskStatisticsServiceImpl(TaskUserStatsRepository statsRepository, TaskRepository taskRepository) {
+        this.statsRepository = statsRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public void recordTaskCreated(Task task) {
+        applyDelta(task.getUserId(), 1, completedCount(task.getCompleted()), task.getPriority(), 1);
+    }
+
+    @Override
+    public void recordTaskChanged(Long userId, Boolean previousCompleted, Priority previousPriority, Task task) {
+        long completed = completedCount(task.getCompleted()) - completedCount(previousCompleted);
+        long high = priorityCount(task.getPriority(), Priority.HIGH) - priorityCount(previousPriority, Priority.HIGH);
+        long medium = priorityCount(task.getPriority(), Priority.MEDIUM) - priorityCount(previousPriority, Priority.MEDIUM);
+        long low = priorityCount(task.getPriority(), Priority.LOW) - priorityCount(previousPriority, Priority.LOW);
+        applyDelta(userId, 0, completed, high, medium, low);
+    }
+
+    @Override
+    public void recordTaskDeleted(Task task) {
+        applyDelta(task.getUserId(), -1, -completedCount(task.getCompleted()), task.getPriority(), -1);
+    }
+
+    @Override
+    public void recordTasksCreated(Long userId, List<Task> tasks) {
+        applyBatchDelta(userId, tasks, 1);
+    }
+
+    @Override
+    public void recordTasksDeleted(Long userId, List<Task> tasks) {
+        applyBatchDelta(userId, tasks, -1);
+    }
+
+    @Override
+    public TaskStatisticsResponse getStatistics(Long userId) {
+        TaskUserStats counters = statsRepository.findById(userId)
+                .orElseGet(() -> seedStatistics(userId));
+
+        TaskStatisticsResponse stats = new TaskStatisticsResponse();
+        stats.setTotalTasks(counters.getTotalTasks());
+        stats.setCompletedTasks(counters.getCompletedTasks());
+        stats.setPendingTasks(counters.getTotalTasks() - counters.getCompletedTasks());
+        stats.setHighPriorityTasks(counters.getHighPriorityTasks());
+        stats.setMediumPriorityTasks(counters.getMediumPriorityTasks());
+        stats.setLowPriorityTasks(counters.getLowPriorityTasks());
+
+        if (stats.getTotalTasks() > 0) {
+            double rate = (stats.getCompletedTasks().doubleValue() / stats.getTotalTasks().doubleValue()) * 100;
+            stats.setCompletionRate(Math.round(rate * 100.0) / 100.0);
+        } else {
+            stats.setCompletionRate(0.0);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        List<Object[]> dueCounts = taskRepository.countOverdueAndDueToday(userId, now, startOfDay, startOfDay.plusDays(1));
+        Object[] row = dueCounts.isEmpty() ? new Object[2] : dueCounts.get(0);
+        stats.setOverdueTasks(toLong(row[0]));
+        stats.setTasksToday(toLong(row[1]));
+
+        return stats;
+    }
+
+    private void applyDelta(Long userId, long total, long completed, Priority priority, long sign) {
+        applyDelta(userId, total, completed,
+                sign * priorityCount(priority, Priority.HIGH),
+                sign * priorityCount(priority, Priority.MEDIUM),
+                sign * priorityCount(priority, Priority.LOW));
+    }
+
+    // One counter update for a whole batch of created (sign 1) or deleted (sign -1) tasks
+    private void applyBatchDelta(Long userId, List<Task> tasks, long sign) {
+        long completed = 0;
+        long high = 0;
+        long medium = 0;
+        long low = 0;
+        for (Task task : tasks) {
+            completed += completedCount(task.getCompleted());
+            high += priorityCount(task.getPriority(), Priority.HIGH);
+            medium += priorityCount(task.getPriority(), Priority.MEDIUM);
+            low += priorityCount(task.getPriority(), Priority.LOW);
+        }
+        applyDelta(userId, sign * tasks.size(), sign * completed, sign * high, sign * medium, sign * low);
+    }
+
+    private void applyDelta(Long userId, long total, long completed, long high, long medium, long low) {
+        if (total == 0 && completed == 0 && high == 0 && medium == 0 && low == 0) {
+            return;
+        }
+
+        int updated = statsRepository.applyDelta(userId, total, completed, high, medium, low);
+        if (updated == 0 && !insertSeed(countStatistics(userId))) {
+            // A concurrent first write seeded the row from a snapshot without this
+            // transaction's change, so the delta still has to be applied on top of it
+            statsRepository.applyDelta(userId, total, completed, high, medium, low);
+        }
+        // Otherwise the seed query saw this transaction's write, so no delta is applied on top
+    }
+
+    private TaskUserStats seedStatistics(Long userId) {
+        TaskUserStats counters = countStatistics(userId);
+        insertSeed(counters);
+        return counters;
+    }
+
+    private boolean insertSeed(TaskUserStats counters) {
+        return statsRepository.insertIfAbsent(counters.getUserId(), counters.getTotalTasks(),
+                counters.getCompletedTasks(), counters.getHighPriorityTasks(),
+                counters.getMediumPriorityTasks(), counters.getLowPriorityTasks()) > 0;
+    }
+
+    private TaskUserStats countStatistics(Long userId) {
+        TaskUserStats counters = new TaskUserStats(userId);
+        long total = 0;
+        long completed = 0;
+        long high = 0;
+        long medium = 0;
+        long low = 0;
+
+        for (Object[] row : taskRepository.countGroupedByCompletedAndPriority(userId)) {
+            long count = toLong(row[2]);
+            total += count;
+            if (Boolean.TRUE.equals(row[0])) {
+                completed += count;
+            }
+            Priority priority = (Priority) row[1];
+            high += priorityCount(priority, Priority.HIGH) * count;
+            medium += priorityCount(priority, Priority.MEDIUM) * count;
+            low += priorityCount(priority, Priority.LOW) * count;
+        }
+
+        counters.setTotalTasks(total);
+        counters.setCompletedTasks(completed);
+        counters.setHighPriorityTasks(high);
+        counters.setMediumPriorityTasks(medium);
+        counters.setLowPriorityTasks(low);
+        return counters;
+    }
+
+    private static long completedCount(Boolean completed) {
+        return Boolean.TRUE.equals(completed) ? 1 : 0;
+    }
+
+    private static long priorityCount(Priority priority, Priority expected) {
+        return priority == expected ? 1 : 0;
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+}
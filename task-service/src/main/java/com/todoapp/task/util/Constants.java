@@ -30,6 +30,7 @@ public class Constants {
     public static final String DEFAULT_CATEGORY_COLOR = "#007bff";
     public static final int DEFAULT_PAGE_SIZE = 20;
     public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 100;
 
     // Validation
     public static final int MAX_TITLE_LENGTH = 255;
@@ -0,0 +1,129 @@
+package com.todoapp.task.due;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimerTest {
+
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 8;
+    private static final long START_MS = 1_000_003;
+
+    private final StepClock clock = new StepClock(START_MS);
+    private final HierarchicalTimer timer = new HierarchicalTimer(TICK_MS, WHEEL_SIZE, START_MS, clock);
+
+    @Test
+    void firesEntryBeyondTheFirstLevelAfterCascadingDown() throws InterruptedException {
+        // Level 0 spans 80 ms, so this lands two levels up and must cascade
+        long expiration = START_MS + 300;
+        AtomicLong firedAt = new AtomicLong();
+        timer.schedule(expiration, () -> firedAt.set(clock.millis()));
+        assertEquals(1, timer.size());
+
+        List<Runnable> fired = stepUntilSomethingFires(1000);
+
+        assertEquals(1, fired.size());
+        fired.get(0).run();
+        assertTrue(firedAt.get() >= expiration, "fired early");
+        assertTrue(firedAt.get() <= expiration + TICK_MS, "fired more than a tick late");
+        assertEquals(0, timer.size());
+    }
+
+    @Test
+    void firesEntriesInExpirationOrder() throws InterruptedException {
+        List<Integer> order = new ArrayList<>();
+        timer.schedule(START_MS + 250, () -> order.add(3));
+        timer.schedule(START_MS + 30, () -> order.add(1));
+        timer.schedule(START_MS + 120, () -> order.add(2));
+
+        for (int step = 0; step < 1000 && order.size() < 3; step++) {
+            clock.advance(1);
+            timer.advance(0).forEach(Runnable::run);
+        }
+
+        assertEquals(List.of(1, 2, 3), order);
+    }
+
+    @Test
+    void runsAlreadyExpiredEntryOnNextAdvance() throws InterruptedException {
+        timer.schedule(START_MS - 1000, () -> { });
+
+        assertEquals(1, timer.advance(0).size());
+        assertEquals(0, timer.advance(0).size());
+    }
+
+    @Test
+    void doesNotFireBeforeTheClockReachesTheBucket() throws InterruptedException {
+        timer.schedule(START_MS + 40, () -> { });
+
+        clock.advance(39);
+        assertTrue(timer.advance(0).isEmpty());
+        assertEquals(1, timer.size());
+    }
+
+    @Test
+    void cancelledEntryNeverFires() throws InterruptedException {
+        HierarchicalTimer.Entry cancelled = timer.schedule(START_MS + 40, () -> { });
+        timer.schedule(START_MS + 60, () -> { });
+        cancelled.cancel();
+        assertEquals(1, timer.size());
+
+        List<Runnable> fired = stepUntilSomethingFires(1000);
+
+        assertEquals(1, fired.size());
+        assertEquals(0, timer.size());
+    }
+
+    // Moves the clock one millisecond at a time; advance(0) never waits on real time
+    private List<Runnable> stepUntilSomethingFires(int maxSteps) throws InterruptedException {
+        List<Runnable> fired = timer.advance(0);
+        for (int step = 0; step < maxSteps && fired.isEmpty(); step++) {
+            clock.advance(1);
+            fired = timer.advance(0);
+        }
+        return fired;
+    }
+
+    private static final class StepClock extends Clock {
+
+        private volatile long millis;
+
+        private StepClock(long millis) {
+            this.millis = millis;
+        }
+
+        private void advance(long ms) {
+            millis += ms;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
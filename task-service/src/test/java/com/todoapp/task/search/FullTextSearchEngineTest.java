@@ -0,0 +1,51 @@
+package com.todoapp.task.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FullTextSearchEngineTest {
+
+    @Test
+    void requiresEveryPlainKeyword() {
+        assertEquals("+buy +milk", FullTextSearchEngine.toBooleanQuery("  buy   milk "));
+    }
+
+    @Test
+    void searchesHyphenatedWordsAsPhrases() {
+        assertEquals("+\"follow up\" +\"e mail\"", FullTextSearchEngine.toBooleanQuery("follow-up e-mail"));
+    }
+
+    @Test
+    void keepsOperatorsInOperatorPosition() {
+        assertEquals("+milk -bread", FullTextSearchEngine.toBooleanQuery("+milk -bread"));
+        assertEquals("report* ~draft", FullTextSearchEngine.toBooleanQuery("report* ~draft"));
+        assertEquals("+\"weekly report\" -(draft old)",
+                FullTextSearchEngine.toBooleanQuery("+\"weekly report\" -(draft old)"));
+    }
+
+    @Test
+    void mixesOperatorsAndHyphenatedWords() {
+        assertEquals("+\"follow up\" -\"e mail\"", FullTextSearchEngine.toBooleanQuery("+follow-up -e-mail"));
+    }
+
+    @Test
+    void dropsUnbalancedDelimiters() {
+        assertEquals("", FullTextSearchEngine.toBooleanQuery("("));
+        assertEquals("+weekly +report", FullTextSearchEngine.toBooleanQuery("\"weekly report"));
+        assertEquals("+draft +old", FullTextSearchEngine.toBooleanQuery("(draft old"));
+        assertEquals("(a b) +c", FullTextSearchEngine.toBooleanQuery("(a b)) +c"));
+    }
+
+    @Test
+    void treatsStrayPunctuationAsSeparators() {
+        assertEquals("+c +rocks", FullTextSearchEngine.toBooleanQuery("c++ rocks"));
+        assertEquals("+milk", FullTextSearchEngine.toBooleanQuery("- @ milk ()"));
+        assertEquals("", FullTextSearchEngine.toBooleanQuery("*** \"\" ()"));
+    }
+
+    @Test
+    void keepsVietnameseWordsIntact() {
+        assertEquals("+báo +cáo", FullTextSearchEngine.toBooleanQuery("báo cáo"));
+    }
+}
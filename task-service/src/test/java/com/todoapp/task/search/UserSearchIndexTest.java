@@ -0,0 +1,118 @@
+package com.todoapp.task.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserSearchIndexTest {
+
+    @Test
+    void requiresEveryQueryTerm() {
+        UserSearchIndex index = load(i -> {
+            i.put(1L, "buy milk", null, List.of());
+            i.put(2L, "buy bread", null, List.of());
+        });
+
+        assertEquals(List.of(1L), index.search(List.of("buy", "milk")));
+        assertTrue(index.search(List.of("buy", "cheese")).isEmpty());
+    }
+
+    @Test
+    void ranksTitleMatchesAboveBodyMatches() {
+        UserSearchIndex index = load(i -> {
+            i.put(1L, "weekly", "quarterly report", List.of());
+            i.put(2L, "quarterly report", "weekly", List.of());
+        });
+
+        assertEquals(List.of(2L, 1L), index.search(List.of("report")));
+    }
+
+    @Test
+    void rewardsAdjacentQueryTerms() {
+        // Same terms and fields; only task 1 has them in query order, next to each other
+        UserSearchIndex index = load(i -> {
+            i.put(1L, "quick brown fox", null, List.of());
+            i.put(2L, "brown fox quick", null, List.of());
+        });
+
+        assertEquals(List.of(1L, 2L), index.search(List.of("quick", "brown")));
+    }
+
+    @Test
+    void doesNotTreatTermsInDifferentFieldsAsAdjacent() {
+        UserSearchIndex index = load(i -> {
+            i.put(1L, "alpha", "beta", List.of());
+            i.put(2L, "gamma", "alpha", List.of("beta"));
+            i.put(3L, "delta", "alpha beta", List.of());
+        });
+
+        List<Long> hits = index.search(List.of("alpha", "beta"));
+
+        // Title weight puts 1 first; 3 beats 2 only because its terms are adjacent
+        assertEquals(List.of(1L, 3L, 2L), hits);
+    }
+
+    @Test
+    void matchesLastTermAsPrefix() {
+        UserSearchIndex index = load(i -> {
+            i.put(1L, "dentist appointment", null, List.of());
+            i.put(2L, "dinner", null, List.of());
+        });
+
+        assertEquals(List.of(1L), index.search(List.of("dentist", "app")));
+        assertTrue(index.search(List.of("app", "dentist")).isEmpty());
+    }
+
+    @Test
+    void searchesComments() {
+        UserSearchIndex index = load(i -> i.put(1L, "call", null, List.of("ask about the invoice")));
+
+        assertEquals(List.of(1L), index.search(List.of("invoice")));
+    }
+
+    @Test
+    void replacesAndRemovesTasks() {
+        UserSearchIndex index = load(i -> i.put(1L, "old title", null, List.of()));
+
+        index.updateIfLoaded(1L, index.nextTicket(), i -> i.put(1L, "new title", null, List.of()));
+        assertTrue(index.search(List.of("old")).isEmpty());
+        assertEquals(List.of(1L), index.search(List.of("new")));
+
+        index.updateIfLoaded(1L, index.nextTicket(), i -> i.remove(1L));
+        assertTrue(index.search(List.of("title")).isEmpty());
+    }
+
+    @Test
+    void ignoresUpdateReadBeforeALaterOneWasApplied() {
+        UserSearchIndex index = load(i -> i.put(1L, "first", null, List.of()));
+        long older = index.nextTicket();
+        long newer = index.nextTicket();
+
+        index.updateIfLoaded(1L, newer, i -> i.put(1L, "newer", null, List.of()));
+        index.updateIfLoaded(1L, older, i -> i.put(1L, "older", null, List.of()));
+
+        assertEquals(List.of(1L), index.search(List.of("newer")));
+        assertTrue(index.search(List.of("older")).isEmpty());
+    }
+
+    @Test
+    void ignoresUpdateReadBeforeTheLoad() {
+        UserSearchIndex index = new UserSearchIndex();
+        long beforeLoad = index.nextTicket();
+        index.loadIfNeeded(i -> i.put(1L, "loaded", null, List.of()));
+
+        index.updateIfLoaded(1L, beforeLoad, i -> i.put(1L, "stale", null, List.of()));
+
+        assertEquals(List.of(1L), index.search(List.of("loaded")));
+    }
+
+    private static UserSearchIndex load(Consumer<UserSearchIndex> loader) {
+        UserSearchIndex index = new UserSearchIndex();
+        index.loadIfNeeded(loader);
+        return index;
+    }
+}
@@ -0,0 +1,56 @@
+package com.todoapp.task.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorUtilTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 9, 14, 5, 7, 123_456_000);
+
+        String cursor = CursorUtil.encode(createdAt, 42L);
+        CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+
+        assertEquals(createdAt, decoded.createdAt());
+        assertEquals(42L, decoded.id());
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        String cursor = CursorUtil.encode(LocalDateTime.of(2024, 1, 1, 0, 0), 1L);
+
+        assertFalse(cursor.contains("+") || cursor.contains("/") || cursor.contains("="));
+    }
+
+    @Test
+    void rejectsCursorThatIsNotBase64() {
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.decode("not a cursor!"));
+    }
+
+    @Test
+    void rejectsCursorWithoutSeparator() {
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.decode(encodeRaw("2024-01-01T00:00")));
+    }
+
+    @Test
+    void rejectsCursorWithMalformedDate() {
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.decode(encodeRaw("yesterday,7")));
+    }
+
+    @Test
+    void rejectsCursorWithMalformedId() {
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.decode(encodeRaw("2024-01-01T00:00,seven")));
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}